@@ -0,0 +1,171 @@
+package eu.objectivum.foundation.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Entry point of the benchmarks jar: runs JMH with the {@link GCProfiler GC profiler} (allocation rates) always on and,
+ * optionally, compares the results with those of a previous run.
+ * <p>
+ * Accepts all the JMH command line options, plus:
+ * <ul>
+ *   <li>{@code --save <file>}: writes the (JSON) results to {@code file}, to serve as a later baseline;</li>
+ *   <li>{@code --baseline <file>}: compares the results with the (JSON) ones in {@code file}, printing the relative
+ *   change of every score and normalized allocation rate ({@code gc.alloc.rate.norm});</li>
+ *   <li>{@code --threshold <percent>}: with {@code --baseline}, exits with status 1 if any score regresses (or any
+ *   allocation rate grows) by more than {@code percent} (default: {@value #THRESHOLD_DEF}).</li>
+ * </ul>
+ * E.g.:
+ * <pre>{@code
+ * mvn -P jmh package
+ * java --enable-preview -jar target/benchmarks.jar --save before.json
+ * # ... optimize ...
+ * java --enable-preview -jar target/benchmarks.jar --baseline before.json --threshold 5 SimpleI18n
+ * }</pre>
+ * {@code src/jmh/baseline.json} holds the results of a reference run of all the benchmarks ({@code -wi 2 -i 3 -w 1 -r 1
+ * -f 1}, trimmed down to the scores and the normalized allocation rates); compare with it on similar hardware only.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+public class BenchmarkRunner {
+
+  public static final double THRESHOLD_DEF = 10;
+
+  private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    String save = null;
+    String baseline = null;
+    double threshold = THRESHOLD_DEF;
+
+    final List<String> jmhArgs = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+      case "--save" -> save = argument(args, ++i);
+      case "--baseline" -> baseline = argument(args, ++i);
+      case "--threshold" -> threshold = Double.parseDouble(argument(args, ++i));
+      default -> jmhArgs.add(args[i]);
+      }
+    }
+
+    final CommandLineOptions commandLineOptions;
+    try {
+      commandLineOptions = new CommandLineOptions(jmhArgs.toArray(String[]::new));
+    } catch (CommandLineOptionException ex) {
+      System.err.println("Error parsing command line: " + ex.getMessage());
+      System.exit(2);
+      return;
+    }
+    if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() ||
+        commandLineOptions.shouldListWithParams() || commandLineOptions.shouldListProfilers() ||
+        commandLineOptions.shouldListResultFormats()) {
+      org.openjdk.jmh.Main.main(jmhArgs.toArray(String[]::new));
+      return;
+    }
+
+    final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class);
+    if (save != null) {
+      options.resultFormat(ResultFormatType.JSON).result(save);
+    }
+    final Collection<RunResult> results = new Runner(options.build()).run();
+
+    if (baseline != null && !compare(results, new File(baseline), threshold)) {
+      System.exit(1);
+    }
+  }
+
+  private static String argument(String[] args, int index) {
+    if (index >= args.length) {
+      throw new IllegalArgumentException("Missing value for option " + args[index - 1]);
+    }
+    return args[index];
+  }
+
+  /**
+   * @return {@code false} if any score or allocation rate regressed beyond {@code threshold} percent
+   */
+  static boolean compare(Collection<RunResult> results, File baselineFile, double threshold) throws IOException {
+    final Map<String, JsonNode> baseline = new HashMap<>();
+    for (JsonNode result : new ObjectMapper().readTree(baselineFile)) {
+      baseline.put(key(result.path("benchmark").asText(), result.path("params")), result);
+    }
+
+    boolean passed = true;
+    System.out.printf("%n%-80s %14s %14s %9s %14s %14s %9s%n", "Benchmark (vs. baseline)", "Baseline", "Score",
+                      "Change", "Base B/op", "B/op", "Change");
+    for (RunResult result : results) {
+      final var params = result.getParams();
+      final Map<String, String> paramValues = new TreeMap<>();
+      for (String name : params.getParamsKeys()) {
+        paramValues.put(name, params.getParam(name));
+      }
+      final String key = key(params.getBenchmark(), new ObjectMapper().valueToTree(paramValues));
+      final JsonNode previous = baseline.get(key);
+      if (previous == null) {
+        System.out.printf("%-80s %14s%n", key, "(new)");
+        continue;
+      }
+
+      final double score = result.getPrimaryResult().getScore();
+      final double previousScore = previous.path("primaryMetric").path("score").asDouble();
+      // throughput: higher is better; average/sample/single-shot time: lower is better
+      final boolean higherIsBetter = params.getMode() == Mode.Throughput;
+      final double scoreChange = change(previousScore, score);
+      final boolean scoreRegressed = (higherIsBetter ? -scoreChange : scoreChange) > threshold;
+
+      double allocation = Double.NaN;
+      for (var secondary : result.getSecondaryResults().entrySet()) {
+        if (secondary.getKey().endsWith(ALLOCATION)) { // JMH prefixes the profiler metrics, e.g., with a middle dot
+          allocation = secondary.getValue().getScore();
+        }
+      }
+      double previousAllocation = Double.NaN;
+      for (var secondary : (Iterable<Map.Entry<String, JsonNode>>) () -> previous.path("secondaryMetrics").fields()) {
+        if (secondary.getKey().endsWith(ALLOCATION)) {
+          previousAllocation = secondary.getValue().path("score").asDouble(Double.NaN);
+        }
+      }
+      final double allocationChange = change(previousAllocation, allocation);
+      // a few bytes per operation more than nothing is noise, not a regression
+      final boolean allocationRegressed = allocationChange > threshold && allocation - previousAllocation > 8;
+
+      passed &= !scoreRegressed && !allocationRegressed;
+      System.out.printf("%-80s %14.3f %14.3f %+8.1f%% %14.1f %14.1f %+8.1f%%%s%n", key, previousScore, score,
+                        scoreChange, previousAllocation, allocation, allocationChange,
+                        scoreRegressed || allocationRegressed ? "  REGRESSION" : "");
+    }
+    System.out.printf("%nBaseline comparison (threshold %.1f%%): %s%n", threshold, passed ? "PASSED" : "FAILED");
+    return passed;
+  }
+
+  private static String key(String benchmark, JsonNode params) {
+    if (params == null || params.isMissingNode() || params.isEmpty()) {
+      return benchmark;
+    }
+    final Map<String, String> sorted = new TreeMap<>();
+    params.fields().forEachRemaining(entry -> sorted.put(entry.getKey(), entry.getValue().asText()));
+    return benchmark + sorted;
+  }
+
+  private static double change(double previous, double current) {
+    if (Double.isNaN(previous) || Double.isNaN(current)) {
+      return Double.NaN;
+    }
+    return previous == 0 ? (current == 0 ? 0 : Double.POSITIVE_INFINITY) : (current - previous) * 100 / previous;
+  }
+}
@@ -0,0 +1,74 @@
+package eu.objectivum.foundation.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static eu.objectivum.foundation.exception.ErrorResponse.ER_TYPE_PREFIX_DEF;
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.joining;
+import static org.apache.commons.lang3.StringUtils.splitByCharacterTypeCamelCase;
+
+/**
+ * Creating, typing and serializing {@link ErrorResponse}s.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ErrorResponseBenchmark {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final ErrorResponse response = new ErrorResponse()
+    .setType(ErrorResponse.defaultType(NotFoundException.class))
+    .setTitle(Severity.WARNING.toCamelCase())
+    .setDetail("The requested \"invoice\" could not be found")
+    .setInstance("/invoices/42")
+    .setSeverity(Severity.WARNING);
+
+  @Benchmark
+  public ErrorResponse newErrorResponse() {
+    return new ErrorResponse();
+  }
+
+  @Benchmark
+  public String newErrorResponseTimestamp() {
+    return new ErrorResponse().getTimestamp();
+  }
+
+  @Benchmark
+  public String defaultType() {
+    return ErrorResponse.defaultType(NotFoundException.class);
+  }
+
+  /**
+   * Baseline: the type derived from the class name on every call, as {@link ErrorResponse#defaultType(Class)} used to.
+   */
+  @Benchmark
+  public String defaultTypeUncached() {
+    return ER_TYPE_PREFIX_DEF + stream(splitByCharacterTypeCamelCase(NotFoundException.class.getSimpleName()))
+      .map(String::toLowerCase)
+      .collect(joining("-"));
+  }
+
+  @Benchmark
+  public byte[] writeJson() {
+    return ErrorResponseWriter.toBytes(response);
+  }
+
+  /**
+   * Baseline: Jackson's data binding.
+   */
+  @Benchmark
+  public byte[] writeJsonObjectMapper() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(response);
+  }
+}
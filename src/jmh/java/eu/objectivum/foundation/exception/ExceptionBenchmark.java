@@ -0,0 +1,141 @@
+package eu.objectivum.foundation.exception;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Constructing (and throwing) exceptions, with and without stack traces, and {@link
+ * GenericExceptionHandler#handle(Thread, Throwable) handling} them for each {@link Severity}.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ExceptionBenchmark {
+
+  private GenericExceptionHandler handler;
+
+  @Setup
+  public void setUp() {
+    handler = new GenericExceptionHandler();
+  }
+
+  @Benchmark
+  public ErrorResponse handle(HandledException handled) {
+    return handler.handle(Thread.currentThread(), handled.exception);
+  }
+
+  @Benchmark
+  public ErrorResponse handleDeduplicated(DeduplicatingHandler state, HandledException handled) {
+    return state.handler.handle(Thread.currentThread(), handled.exception);
+  }
+
+  /**
+   * The mapper is resolved for the exception's class once, then looked up in constant time.
+   */
+  @Benchmark
+  public ErrorResponse handleMapped(MappingHandler state, HandledException handled) {
+    return state.handler.handle(Thread.currentThread(), handled.exception);
+  }
+
+  /**
+   * Baseline for the exception construction benchmarks.
+   */
+  @Benchmark
+  public RuntimeException newRuntimeException() {
+    return new RuntimeException("Not found");
+  }
+
+  @Benchmark
+  public ApplicationException newNotFoundException() {
+    return new NotFoundException("Not found");
+  }
+
+  @Benchmark
+  public ApplicationException newStacklessNotFoundException() {
+    return new NotFoundException("Not found", null, false, false);
+  }
+
+  @Benchmark
+  public ApplicationException sharedNotFoundException() {
+    return NotFoundException.STACKLESS;
+  }
+
+  /**
+   * Throwing and catching (a few frames deep) dominates when stack traces are filled in.
+   */
+  @Benchmark
+  public Throwable throwNotFoundException() {
+    try {
+      throw new NotFoundException("Not found");
+    } catch (NotFoundException ex) {
+      return ex;
+    }
+  }
+
+  @Benchmark
+  public Throwable throwStacklessNotFoundException() {
+    try {
+      throw NotFoundException.STACKLESS;
+    } catch (NotFoundException ex) {
+      return ex;
+    }
+  }
+
+  /**
+   * Only taken by the {@code handle*} benchmarks, so that the construction ones do not run once per severity.
+   */
+  @State(Scope.Benchmark)
+  public static class HandledException {
+
+    @Param({"WARNING", "ERROR"})
+    public Severity severity;
+
+    ApplicationException exception;
+
+    @Setup
+    public void setUp() {
+      exception = new ApplicationException("Benchmark").setSeverity(severity);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class DeduplicatingHandler {
+
+    GenericExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+      handler = new GenericExceptionHandler().setDeduplicator(new ThrowableDeduplicator());
+    }
+
+    @TearDown
+    public void tearDown() {
+      handler.close();
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class MappingHandler {
+
+    GenericExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+      handler = new GenericExceptionHandler().setMapperRegistry(
+        new ExceptionMapperRegistry()
+          .register(IllegalArgumentException.class, ExceptionMapper.of(null, null, Severity.WARNING))
+          .register(IllegalStateException.class, ExceptionMapper.of(null, null, Severity.ERROR))
+          .register(UnsupportedOperationException.class, ExceptionMapper.of(null, null, Severity.ERROR))
+          .register(UncheckedIOException.class, ExceptionMapper.of(null, null, Severity.ERROR))
+          .register(ApplicationException.class, (throwable, response) -> response.setInstance("/benchmark")));
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package eu.objectivum.foundation.i18n;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting with compiled {@link MessageTemplate}s versus {@link MessageFormat}s, freshly created (as {@link
+ * SimpleI18n} used to) or reused.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class MessageTemplateBenchmark {
+
+  @Param({"simple", "number", "date", "choice"})
+  public String pattern;
+
+  private String message;
+
+  private Object[] args;
+
+  private final Locale locale = Locale.GERMANY;
+
+  private MessageFormat messageFormat;
+
+  private MessageTemplate messageTemplate;
+
+  private final StringBuilder builder = new StringBuilder(256);
+
+  @Setup
+  public void setUp() {
+    switch (pattern) {
+    case "simple" -> {
+      message = "Hello {0}, welcome back to {1}!";
+      args = new Object[]{"Ana", "the shop"};
+    }
+    case "number" -> {
+      message = "You have {0} new messages and {1,number,#.##} credits.";
+      args = new Object[]{42, 1234.5678};
+    }
+    case "date" -> {
+      message = "Last login: {0,date,short} at {0,time,short}.";
+      args = new Object[]{new Date(1_792_000_000_000L)};
+    }
+    case "choice" -> {
+      message = "There {0,choice,0#are no files|1#is one file|1<are {0,number,integer} files}.";
+      args = new Object[]{7};
+    }
+    default -> throw new IllegalArgumentException("Unknown pattern " + pattern);
+    }
+    messageFormat = new MessageFormat(message, locale);
+    messageTemplate = MessageTemplate.compile(message, locale);
+  }
+
+  @Benchmark
+  public String messageFormatNew() {
+    return new MessageFormat(message, locale).format(args);
+  }
+
+  @Benchmark
+  public String messageFormatReused() {
+    synchronized (messageFormat) {
+      return messageFormat.format(args);
+    }
+  }
+
+  @Benchmark
+  public MessageTemplate templateCompile() {
+    return MessageTemplate.compile(message, locale);
+  }
+
+  @Benchmark
+  public String templateFormat() {
+    return messageTemplate.format(args);
+  }
+
+  @Benchmark
+  public StringBuilder templateFormatTo() {
+    builder.setLength(0);
+    return messageTemplate.formatTo(builder, args);
+  }
+}
@@ -0,0 +1,113 @@
+package eu.objectivum.foundation.i18n;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SimpleI18n#t(String, Object...) Translating} and {@link SimpleI18n#l(Instant) localizing} across three
+ * bundles ({@code common}, {@code errors} and {@code labels}), for each lookup / formatting strategy.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SimpleI18nBenchmark {
+
+  private static final MessageKey GREETING = MessageKey.of("greeting");
+
+  private static final MessageKey LABEL_SAVE = MessageKey.of("label.save");
+
+  /**
+   * {@code uncached}: a new {@code MessageFormat} per call; {@code cached}: the default {@link MessageFormatCache};
+   * {@code indexed}: cached formats and a flat {@link MessageIndex}; {@code template}: cached {@link MessageTemplate}s.
+   */
+  @Param({"uncached", "cached", "indexed", "template"})
+  public String strategy;
+
+  @Param({"en", "de"})
+  public String language;
+
+  private SimpleI18n<?> i18n;
+
+  private final Instant instant = Instant.parse("2026-10-16T08:30:00.123Z");
+
+  private final Date date = Date.from(instant);
+
+  private final StringBuilder builder = new StringBuilder(256);
+
+  @Setup
+  public void setUp() {
+    i18n = new SimpleI18n<>("common", "errors", "labels").setLocale(Locale.forLanguageTag(language));
+    switch (strategy) {
+    case "uncached" -> i18n.setMessageFormatCache(null);
+    case "cached" -> {}
+    case "indexed" -> i18n.setIndexed(true);
+    case "template" -> i18n.setMessageTemplateCache(new MessageCache<>());
+    default -> throw new IllegalArgumentException("Unknown strategy " + strategy);
+    }
+  }
+
+  @Benchmark
+  public String tNoArgs() {
+    return i18n.t("greeting");
+  }
+
+  @Benchmark
+  public String tArgs() {
+    return i18n.t("inbox", "Ana", 42, date);
+  }
+
+  /**
+   * The key is only found in the last bundle.
+   */
+  @Benchmark
+  public String tArgsLastBundle() {
+    return i18n.t("label.files", 7);
+  }
+
+  @Benchmark
+  public String tNoArgsLastBundle() {
+    return i18n.t("label.save");
+  }
+
+  /**
+   * The message looked up by {@link MessageKey#slot() slot}.
+   */
+  @Benchmark
+  public String tMessageKey() {
+    return i18n.t(GREETING);
+  }
+
+  @Benchmark
+  public String tMessageKeyLastBundle() {
+    return i18n.t(LABEL_SAVE);
+  }
+
+  /**
+   * The key is not found in any bundle.
+   */
+  @Benchmark
+  public String tMiss() {
+    return i18n.t("no.such.key", "Ana");
+  }
+
+  @Benchmark
+  public StringBuilder tAppendable() {
+    builder.setLength(0);
+    return i18n.t(builder, "error.not-found", "invoice");
+  }
+
+  @Benchmark
+  public String l() {
+    return i18n.l(instant);
+  }
+}
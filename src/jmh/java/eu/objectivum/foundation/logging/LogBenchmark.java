@@ -0,0 +1,73 @@
+package eu.objectivum.foundation.logging;
+
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving loggers through {@link Log} versus {@link LoggerFactory} directly.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class LogBenchmark {
+
+  private static final Logger LOG = Log.here();
+
+  private final Object source = new Object();
+
+  /**
+   * Walks the stack to find the calling class.
+   */
+  @Benchmark
+  public Logger logForNull() {
+    return Log.logFor(null);
+  }
+
+  @Benchmark
+  public Logger logForClass() {
+    return Log.logFor(LogBenchmark.class);
+  }
+
+  @Benchmark
+  public Logger logForObject() {
+    return Log.logFor(source);
+  }
+
+  /**
+   * The one-time cost of initializing a {@code static final} field.
+   */
+  @Benchmark
+  public Logger here() {
+    return Log.here();
+  }
+
+  /**
+   * Reading a {@code static final} field initialized by {@link Log#here()}.
+   */
+  @Benchmark
+  public Logger hereField() {
+    return LOG;
+  }
+
+  @Benchmark
+  public Logger log() {
+    return Log.log();
+  }
+
+  /**
+   * Baseline.
+   */
+  @Benchmark
+  public Logger loggerFactoryGetLogger() {
+    return LoggerFactory.getLogger(LogBenchmark.class);
+  }
+}
@@ -0,0 +1,115 @@
+package eu.objectivum.foundation.concurrent;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free, array-based queue for many producers and (typically) a single consumer; any thread may
+ * {@link #poll() poll}, though, e.g., to drop the oldest element when the queue is full.
+ * <p>
+ * Each slot carries a sequence number telling producers and consumers whether it is theirs to fill or to empty, so
+ * that the only points of contention are the head and tail counters and no element is ever observed half-published.
+ *
+ * @param <E> the type of the queued elements
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see <a href="https://www.1024cores.net/home/lock-free-algorithms/queues/bounded-mpmc-queue">Dmitry Vyukov's bounded
+ *   MPMC queue</a>
+ */
+public class RingBuffer<E> {
+
+  private final int capacity;
+
+  private final int mask;
+
+  private final AtomicReferenceArray<E> elements;
+
+  private final AtomicLongArray sequences;
+
+  private final AtomicLong head = new AtomicLong();
+
+  private final AtomicLong tail = new AtomicLong();
+
+  /**
+   * @param capacity rounded up to the next power of two, and to at least 2: with a single slot, a producer could not
+   *                 tell a published but not yet consumed element from a free slot and would overwrite it
+   */
+  public RingBuffer(int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("The capacity of the ring buffer must be between 1 and 2^30");
+    }
+    this.capacity = capacity < 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = this.capacity - 1;
+    this.elements = new AtomicReferenceArray<>(this.capacity);
+    this.sequences = new AtomicLongArray(this.capacity);
+    for (int i = 0; i < this.capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * @return {@code false} if the buffer is full
+   */
+  public boolean offer(@NotNull E element) {
+    long position = tail.get();
+    for (; ; ) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements.set(index, element);
+          sequences.set(index, position + 1); // publishes the element
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = tail.get(); // another producer got here first
+      }
+    }
+  }
+
+  /**
+   * @return the oldest element or {@code null} if the buffer is empty
+   */
+  public E poll() {
+    long position = head.get();
+    for (; ; ) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          final E element = elements.get(index);
+          elements.set(index, null);
+          sequences.set(index, position + capacity); // hands the slot back to the producers
+          return element;
+        }
+        position = head.get();
+      } else if (difference < 0) {
+        return null;
+      } else {
+        position = head.get(); // another consumer got here first
+      }
+    }
+  }
+
+  /**
+   * @return an estimate of the number of queued elements
+   */
+  public int size() {
+    final long size = tail.get() - head.get();
+    return size < 0 ? 0 : (int) Math.min(size, capacity);
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+}
@@ -1,7 +1,16 @@
 package eu.objectivum.foundation.exception;
 
+import org.slf4j.MDC;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.time.Instant;
+
 import static eu.objectivum.foundation.exception.Severity.ERROR;
+import static java.lang.System.getProperty;
 import static java.lang.Thread.currentThread;
+import static java.lang.invoke.MethodType.methodType;
+import static org.apache.commons.lang3.EnumUtils.getEnumIgnoreCase;
 
 /**
  * Convenient generic application {@link RuntimeException exception} to "throw and forget," at whatever level.
@@ -11,6 +20,14 @@ import static java.lang.Thread.currentThread;
  * other contexts.
  * <p>
  * Try to keep the {@link #getMessage() message} concise and meaningful to the end-user!
+ * <p>
+ * Exceptions describing <em>expected</em> control flow (e.g., a 404 on a cache miss) do not need a stack trace; they
+ * can be created {@link #ApplicationException(String, Throwable, boolean, boolean) stackless} or, when no message is
+ * needed either, replaced by shared, {@link #freeze() immutable} instances (see {@link NotFoundException#STACKLESS},
+ * etc.).
+ * <p>
+ * What is recorded about the creating thread (and request) depends on the {@link #setContextCapture(ContextCapture)
+ * context capture policy}; by default, only a few primitives, with the thread name looked up when read.
  *
  * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
  * @version 1.0, Oct 3, 2021
@@ -24,16 +41,110 @@ public class ApplicationException extends RuntimeException {
   public static final String NO_ADDITIONAL_DETAILS_AVAILABLE_MSG =
     "An error has occurred but no additional details are currently available.";
 
+  public static final String CONTEXT_CAPTURE_KEY = "exception.context.capture";
+
+  public static final ContextCapture CONTEXT_CAPTURE_DEF = ContextCapture.COMPACT;
+
+  /**
+   * Names the system property holding the MDC key of the trace id to record (if any), e.g., {@code traceId}.
+   */
+  public static final String TRACE_ID_MDC_KEY_KEY = "exception.context.trace-id-mdc-key";
+
+  public static final String TRACE_ID_MDC_KEY_DEF = "traceId";
+
+  private static volatile ContextCapture contextCapture =
+    getEnumIgnoreCase(ContextCapture.class, getProperty(CONTEXT_CAPTURE_KEY), CONTEXT_CAPTURE_DEF);
+
+  private static volatile String traceIdMdcKey = getProperty(TRACE_ID_MDC_KEY_KEY, TRACE_ID_MDC_KEY_DEF);
+
+  /**
+   * {@code Thread.isVirtual()}, if the runtime has virtual threads.
+   */
+  private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+
   private Severity severity = ERROR;
 
+  /**
+   * {@code null} until {@link #getThreadName() read}, unless {@link ContextCapture#FULL fully} captured or set.
+   */
   private String threadName;
 
+  /**
+   * {@code 0} if not captured.
+   */
   private long threadId;
 
+  private boolean virtualThread;
+
+  /**
+   * Epoch milliseconds; {@code 0} if not captured.
+   */
+  private long timestamp;
+
+  private String traceId;
+
+  private boolean frozen;
+
   {
-    final Thread currentThread = currentThread();
-    threadName = currentThread.getName();
-    threadId = currentThread.getId();
+    final ContextCapture capture = contextCapture;
+    if (capture != ContextCapture.NONE) {
+      final Thread currentThread = currentThread();
+      threadId = currentThread.getId();
+      virtualThread = isVirtual(currentThread);
+      timestamp = System.currentTimeMillis();
+
+      final String mdcKey = traceIdMdcKey;
+      if (mdcKey != null) {
+        traceId = MDC.get(mdcKey); // a reference, not a copy of the MDC
+      }
+      if (capture == ContextCapture.FULL) {
+        threadName = currentThread.getName();
+      }
+    }
+  }
+
+  public static ContextCapture getContextCapture() {
+    return contextCapture;
+  }
+
+  /**
+   * Sets what exceptions created from now on record; defaults to the value of the {@value #CONTEXT_CAPTURE_KEY}
+   * system property or, if not set, {@link #CONTEXT_CAPTURE_DEF}.
+   *
+   * @param contextCapture if {@code null}, {@link ContextCapture#NONE}
+   */
+  public static void setContextCapture(ContextCapture contextCapture) {
+    ApplicationException.contextCapture = contextCapture == null ? ContextCapture.NONE : contextCapture;
+  }
+
+  public static String getTraceIdMdcKey() {
+    return traceIdMdcKey;
+  }
+
+  /**
+   * @param traceIdMdcKey if {@code null}, no trace id is recorded
+   */
+  public static void setTraceIdMdcKey(String traceIdMdcKey) {
+    ApplicationException.traceIdMdcKey = traceIdMdcKey;
+  }
+
+  private static MethodHandle isVirtualHandle() {
+    try {
+      return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", methodType(boolean.class));
+    } catch (ReflectiveOperationException ex) {
+      return null; // no virtual threads before Java 19 / 21
+    }
+  }
+
+  private static boolean isVirtual(Thread thread) {
+    if (IS_VIRTUAL == null) {
+      return false;
+    }
+    try {
+      return (boolean) IS_VIRTUAL.invokeExact(thread);
+    } catch (Throwable ex) {
+      return false;
+    }
   }
 
   public ApplicationException() {}
@@ -50,20 +161,78 @@ public class ApplicationException extends RuntimeException {
     super(message, cause);
   }
 
+  /**
+   * @param writableStackTrace if {@code false}, the (costly) stack trace is neither filled in nor recorded
+   * @see RuntimeException#RuntimeException(String, Throwable, boolean, boolean)
+   */
+  public ApplicationException(String message, Throwable cause, boolean enableSuppression,
+                              boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
+
+  /**
+   * Makes {@code this} exception immutable so that it can be shared (e.g., thrown over and over again) as a flyweight;
+   * the thread details are cleared, as they would only describe the thread that created the instance.
+   * Meant for stackless instances, created without suppression and with an explicit (possibly {@code null}) cause.
+   *
+   * @return {@code this}
+   */
+  protected final ApplicationException freeze() {
+    threadName = null;
+    threadId = 0;
+    virtualThread = false;
+    timestamp = 0;
+    traceId = null;
+    frozen = true;
+    return this;
+  }
+
+  public boolean isFrozen() {
+    return frozen;
+  }
+
+  private void checkNotFrozen() {
+    if (frozen) {
+      throw new UnsupportedOperationException("Shared (frozen) exception instances cannot be modified");
+    }
+  }
+
   public Severity getSeverity() {
     return severity;
   }
 
   public ApplicationException setSeverity(Severity severity) {
+    checkNotFrozen();
     this.severity = severity;
     return this;
   }
 
+  /**
+   * @return the name of the thread that created {@code this} exception, looked up now if needed and possible (i.e., if
+   *   read on that thread); {@code null} if unknown
+   */
   public String getThreadName() {
+    if (threadName == null) {
+      resolveContext(currentThread());
+    }
     return threadName;
   }
 
+  /**
+   * Looks up the context not captured eagerly (i.e., the thread name) if {@code thread} is the one that created {@code
+   * this} exception, e.g., before handing it over to another thread.
+   *
+   * @return {@code this}
+   */
+  public ApplicationException resolveContext(Thread thread) {
+    if (threadName == null && thread != null && threadId != 0 && !frozen && thread.getId() == threadId) {
+      threadName = thread.getName();
+    }
+    return this;
+  }
+
   public ApplicationException setThreadName(String threadName) {
+    checkNotFrozen();
     this.threadName = threadName;
     return this;
   }
@@ -73,7 +242,26 @@ public class ApplicationException extends RuntimeException {
   }
 
   public ApplicationException setThreadId(long threadId) {
+    checkNotFrozen();
     this.threadId = threadId;
     return this;
   }
+
+  public boolean isVirtualThread() {
+    return virtualThread;
+  }
+
+  /**
+   * @return when {@code this} exception was created or {@code null} if not captured
+   */
+  public Instant getTimestamp() {
+    return timestamp == 0 ? null : Instant.ofEpochMilli(timestamp);
+  }
+
+  /**
+   * @return the {@link #setTraceIdMdcKey(String) trace id} in the MDC when {@code this} exception was created, if any
+   */
+  public String getTraceId() {
+    return traceId;
+  }
 }
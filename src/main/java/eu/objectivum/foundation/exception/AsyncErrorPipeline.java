@@ -0,0 +1,307 @@
+package eu.objectivum.foundation.exception;
+
+import eu.objectivum.foundation.concurrent.RingBuffer;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Moves the processing of handled throwables (logging, reporting, etc.) off the caller's thread: {@link
+ * GenericExceptionHandler#handle(Thread, Throwable) handle()} only builds the {@link ErrorResponse error response} and
+ * {@link #submit(Event) submits} an {@link Event event} to a bounded, lock-free {@link RingBuffer ring buffer} which a
+ * single, dedicated consumer thread drains, in batches, into the registered {@link #addSink(Consumer) sinks}.
+ * <p>
+ * When the buffer is full, the {@link Overflow overflow policy} decides whether producers wait or events get dropped;
+ * {@link #close(Duration) closing} the pipeline (e.g., from a {@link #installShutdownHook() shutdown hook}) processes
+ * whatever is still queued.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see GenericExceptionHandler#setPipeline(AsyncErrorPipeline)
+ */
+@Slf4j
+public class AsyncErrorPipeline implements AutoCloseable {
+
+  /**
+   * What to do when an event is submitted while the buffer is full.
+   */
+  public enum Overflow {
+    /** Wait (spinning, then parking) for room; the caller is slowed down, nothing is lost. */
+    BLOCK,
+    /** Make room by dropping (and counting) the oldest queued event. */
+    DROP_OLDEST,
+    /** Drop (and count) the submitted event. */
+    DROP
+  }
+
+  /**
+   * A handled throwable, together with its context and the response that has been built for it.
+   *
+   * @param threadName the name of the thread the throwable has been handled on, made the name of the delivering thread
+   *                   while sinks run (so that, e.g., {@code %thread} in the logging pattern is the original one)
+   * @param mdc        a copy of the {@link MDC} of the handling thread, made the MDC of the delivering thread while
+   *                   sinks run (so that, e.g., trace and request ids get logged); may be {@code null}
+   */
+  public record Event(Thread thread, String threadName, Map<String, String> mdc, Throwable throwable, Severity severity,
+                      ErrorResponse response) {
+
+    /**
+     * Captures the name of {@code thread} (the current one if {@code null}) and the MDC of the current thread; to be
+     * called on the handling thread, before {@link #submit(Event) submitting}.
+     */
+    public Event(Thread thread, Throwable throwable, Severity severity, ErrorResponse response) {
+      this(thread, (thread == null ? Thread.currentThread() : thread).getName(), MDC.getCopyOfContextMap(), throwable,
+           severity, response);
+    }
+  }
+
+  public static final int CAPACITY_DEF = 8192;
+
+  public static final int BATCH_SIZE_DEF = 256;
+
+  public static final Duration CLOSE_TIMEOUT_DEF = Duration.ofSeconds(10);
+
+  private static final long PARK_NANOS = 1_000_000L;
+
+  private final RingBuffer<Event> buffer;
+
+  private final Overflow overflow;
+
+  private final int batchSize;
+
+  private final List<Consumer<Event>> sinks = new CopyOnWriteArrayList<>();
+
+  private final LongAdder submitted = new LongAdder();
+
+  private final LongAdder processed = new LongAdder();
+
+  private final LongAdder dropped = new LongAdder();
+
+  private final Thread consumer;
+
+  private volatile boolean consumerParked;
+
+  private volatile boolean closed;
+
+  public AsyncErrorPipeline() {
+    this(CAPACITY_DEF, Overflow.DROP, BATCH_SIZE_DEF, null);
+  }
+
+  /**
+   * @param threadFactory creates the consumer thread (e.g., a virtual one, where available); if {@code null}, a daemon
+   *                      platform thread is created
+   */
+  public AsyncErrorPipeline(int capacity, Overflow overflow, int batchSize, ThreadFactory threadFactory) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("The batch size must be positive");
+    }
+    this.buffer = new RingBuffer<>(capacity);
+    this.overflow = overflow == null ? Overflow.DROP : overflow;
+    this.batchSize = batchSize;
+
+    if (threadFactory == null) {
+      consumer = new Thread(this::consume, "error-pipeline");
+      consumer.setDaemon(true);
+    } else {
+      consumer = threadFactory.newThread(this::consume);
+    }
+    consumer.start();
+  }
+
+  public AsyncErrorPipeline addSink(@NotNull Consumer<Event> sink) {
+    sinks.add(sink);
+    return this;
+  }
+
+  public AsyncErrorPipeline removeSink(Consumer<Event> sink) {
+    sinks.remove(sink);
+    return this;
+  }
+
+  /**
+   * @return {@code false} if the pipeline is closed (and the caller should process {@code event} itself), {@code true}
+   *   if the event has been queued or deliberately dropped
+   */
+  public boolean submit(@NotNull Event event) {
+    if (closed) {
+      return false;
+    }
+
+    if (!buffer.offer(event)) {
+      switch (overflow) {
+      case BLOCK -> {
+        while (!buffer.offer(event)) {
+          if (closed) {
+            return false;
+          }
+          wakeUpConsumer();
+          LockSupport.parkNanos(this, PARK_NANOS / 10);
+        }
+      }
+      case DROP_OLDEST -> {
+        while (!buffer.offer(event)) {
+          if (buffer.poll() != null) {
+            dropped.increment();
+          }
+        }
+      }
+      case DROP -> {
+        submitted.increment();
+        dropped.increment();
+        return true;
+      }
+      }
+    }
+    submitted.increment(); // only once queued: an event the caller gets back (false) is not counted
+
+    if (closed) {
+      drain(); // closed meanwhile: the consumer may have already seen the buffer empty and returned
+    } else if (consumerParked) {
+      wakeUpConsumer();
+    }
+    return true;
+  }
+
+  /**
+   * Delivers whatever is still queued, on the calling thread; each event is {@link RingBuffer#poll() polled} by a
+   * single thread, so it is delivered once even if the consumer is still draining too.
+   */
+  private void drain() {
+    Event event;
+    while ((event = buffer.poll()) != null) {
+      deliver(event);
+      processed.increment();
+    }
+  }
+
+  private void wakeUpConsumer() {
+    LockSupport.unpark(consumer);
+  }
+
+  private void consume() {
+    final Event[] batch = new Event[batchSize];
+    for (; ; ) {
+      int size = 0;
+      Event event;
+      while (size < batchSize && (event = buffer.poll()) != null) {
+        batch[size++] = event;
+      }
+
+      if (size == 0) {
+        if (closed) {
+          return; // closed and drained
+        }
+        consumerParked = true;
+        if (buffer.isEmpty() && !closed) {
+          LockSupport.park(this); // submit() and close() unpark once they see consumerParked
+        }
+        consumerParked = false;
+        continue;
+      }
+
+      for (int i = 0; i < size; i++) {
+        deliver(batch[i]);
+        batch[i] = null;
+      }
+      processed.add(size);
+    }
+  }
+
+  private void deliver(Event event) {
+    final Thread current = Thread.currentThread();
+    final String name = current.getName();
+    final Map<String, String> mdc = MDC.getCopyOfContextMap();
+    setContext(current, event.threadName(), event.mdc());
+    try {
+      for (Consumer<Event> sink : sinks) {
+        try {
+          sink.accept(event);
+        } catch (Throwable throwable) {
+          log.warn("Error pipeline sink {} failed", sink, throwable);
+        }
+      }
+    } finally {
+      setContext(current, name, mdc);
+    }
+  }
+
+  private static void setContext(Thread thread, String name, Map<String, String> mdc) {
+    if (name != null && !name.equals(thread.getName())) {
+      thread.setName(name);
+    }
+    if (mdc == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(mdc);
+    }
+  }
+
+  /**
+   * Stops accepting events and waits for the queued ones to be processed.
+   *
+   * @return {@code true} if all the queued events have been processed within {@code timeout}
+   */
+  public boolean close(@NotNull Duration timeout) {
+    closed = true;
+    wakeUpConsumer();
+    if (Thread.currentThread() == consumer) {
+      return buffer.isEmpty();
+    }
+    try {
+      consumer.join(Math.max(1, timeout.toMillis()));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    return !consumer.isAlive();
+  }
+
+  @Override
+  public void close() {
+    close(CLOSE_TIMEOUT_DEF);
+  }
+
+  /**
+   * Flushes the pipeline when the JVM shuts down.
+   */
+  public AsyncErrorPipeline installShutdownHook() {
+    Runtime.getRuntime().addShutdownHook(new Thread(this::close, "error-pipeline-shutdown"));
+    return this;
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  public Overflow getOverflow() {
+    return overflow;
+  }
+
+  public int getCapacity() {
+    return buffer.capacity();
+  }
+
+  public int getQueueDepth() {
+    return buffer.size();
+  }
+
+  public long getSubmittedCount() {
+    return submitted.sum();
+  }
+
+  public long getProcessedCount() {
+    return processed.sum();
+  }
+
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+}
@@ -0,0 +1,29 @@
+package eu.objectivum.foundation.exception;
+
+/**
+ * What diagnostic context an {@link ApplicationException} records about the thread (and request) creating it; see
+ * {@link ApplicationException#setContextCapture(ContextCapture)}.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+public enum ContextCapture {
+
+  /**
+   * Nothing; for exceptions created in bulk and mostly discarded.
+   */
+  NONE,
+
+  /**
+   * Compact primitives only: the thread id, whether the thread is virtual, the creation time and a reference to the
+   * {@link ApplicationException#TRACE_ID_MDC_KEY_KEY trace id} in the MDC. The thread name is only looked up when read,
+   * if on the same thread (the {@link GenericExceptionHandler handler} and the loggers usually are) or when {@link
+   * ApplicationException#resolveContext(Thread) resolved} for the thread.
+   */
+  COMPACT,
+
+  /**
+   * {@link #COMPACT} plus the thread name, eagerly; for exceptions handed over to other threads before being handled.
+   */
+  FULL
+}
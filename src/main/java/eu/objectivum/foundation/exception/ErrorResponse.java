@@ -3,11 +3,13 @@ package eu.objectivum.foundation.exception;
 import lombok.*;
 import lombok.experimental.Accessors;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 
 import static eu.objectivum.foundation.exception.ApplicationException.NO_ADDITIONAL_DETAILS_AVAILABLE_MSG;
 import static eu.objectivum.foundation.exception.Severity.ERROR;
-import static java.time.Instant.now;
 import static java.time.ZoneId.systemDefault;
 import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 import static java.util.Arrays.stream;
@@ -17,6 +19,9 @@ import static org.apache.commons.lang3.StringUtils.splitByCharacterTypeCamelCase
 /**
  * Models <a href="https://datatracker.ietf.org/doc/html/rfc7807">RFC 7807 Problem Details for HTTP APIs</a> error
  * detail payloads.
+ * <p>
+ * The {@link #getTimestamp() timestamp} is captured (as plain numbers) on construction but only formatted when read,
+ * e.g., during serialization, so that responses which are discarded or rebuilt do not pay for it.
  *
  * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
  * @version 1.0, Oct 3, 2021
@@ -24,7 +29,6 @@ import static org.apache.commons.lang3.StringUtils.splitByCharacterTypeCamelCase
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @Accessors(chain = true)
 public class ErrorResponse {
 
@@ -38,11 +42,44 @@ public class ErrorResponse {
     return defaultType(object == null ? null : object.getClass());
   }
 
+  /**
+   * @return the {@link #registerType(Class, String) registered} type of {@code clazz} or one derived from its simple
+   *   name (e.g., {@code .../not-found-exception} for {@link NotFoundException}); computed once per class
+   */
   public static String defaultType(Class<?> clazz) {
-    return clazz == null
-      ? ER_TYPE_DEF
-      : ER_TYPE_PREFIX_DEF +
-        stream(splitByCharacterTypeCamelCase(clazz.getSimpleName())).map(String::toLowerCase).collect(joining("-"));
+    return clazz == null ? ER_TYPE_DEF : TYPES.get(clazz).type;
+  }
+
+  /**
+   * Overrides the {@link #defaultType(Class) default type} of {@code clazz}.
+   *
+   * @param type if {@code null}, the type derived from the simple name of {@code clazz} is restored
+   */
+  public static void registerType(@NonNull Class<?> clazz, String type) {
+    TYPES.get(clazz).type = type == null ? deriveType(clazz) : type;
+  }
+
+  private static String deriveType(Class<?> clazz) {
+    return ER_TYPE_PREFIX_DEF +
+      stream(splitByCharacterTypeCamelCase(clazz.getSimpleName())).map(String::toLowerCase).collect(joining("-"));
+  }
+
+  /**
+   * Per-class types; a {@link ClassValue} does not prevent classes (and their loaders) from being unloaded and does not
+   * lock on reads.
+   */
+  private static final ClassValue<Type> TYPES = new ClassValue<>() {
+    @Override
+    protected Type computeValue(Class<?> clazz) {
+      return new Type(deriveType(clazz));
+    }
+  };
+
+  private static final class Type {
+
+    volatile String type;
+
+    Type(String type) {this.type = type;}
   }
 
   private String type = ER_TYPE_DEF;
@@ -53,7 +90,108 @@ public class ErrorResponse {
 
   private String instance;
 
-  private String timestamp = ER_DATE_TIME_FORMATTER_DEF.format(now());
+  /**
+   * The formatted capture instant or the {@link #setTimestamp(String) explicitly set} timestamp ({@code null} meaning
+   * "no timestamp"), unless still {@link #timestampPending pending}.
+   */
+  private String timestamp;
+
+  /**
+   * Whether the capture instant has yet to be formatted, i.e., no timestamp has been read or set so far.
+   */
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private boolean timestampPending = true;
 
   private Severity severity = ERROR;
+
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final long epochSecond;
+
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final int nano;
+
+  {
+    final Instant now = Instant.now();
+    epochSecond = now.getEpochSecond();
+    nano = now.getNano();
+  }
+
+  public ErrorResponse(String type, String title, String detail, String instance, String timestamp,
+                       Severity severity) {
+    this.type = type;
+    this.title = title;
+    this.detail = detail;
+    this.instance = instance;
+    setTimestamp(timestamp);
+    this.severity = severity;
+  }
+
+  public String getTimestamp() {
+    if (timestampPending) {
+      timestamp = TimestampFormat.format(epochSecond, nano);
+      timestampPending = false;
+    }
+    return timestamp;
+  }
+
+  /**
+   * @param timestamp replaces the capture instant; if {@code null}, the response has no timestamp
+   */
+  public ErrorResponse setTimestamp(String timestamp) {
+    this.timestamp = timestamp;
+    timestampPending = false;
+    return this;
+  }
+
+  /**
+   * Formats capture instants exactly like {@link #ER_DATE_TIME_FORMATTER_DEF} does, reusing the date, time and offset
+   * of the last formatted second; only the fraction of the second is rendered anew.
+   */
+  private static final class TimestampFormat {
+
+    private static final ZoneId ZONE = ER_DATE_TIME_FORMATTER_DEF.getZone();
+
+    private static volatile Second last;
+
+    private record Second(long epochSecond, String dateTime, String offset) {}
+
+    static String format(long epochSecond, int nano) {
+      Second second = last;
+      if (second == null || second.epochSecond != epochSecond) {
+        final Instant instant = Instant.ofEpochSecond(epochSecond);
+        final ZoneOffset offset = ZONE.getRules().getOffset(instant);
+        // ISO_OFFSET_DATE_TIME always renders the seconds, so its output (without a fraction) ends with the offset
+        final String formatted = ER_DATE_TIME_FORMATTER_DEF.format(instant);
+        final String offsetId = offset.getId();
+        final String dateTime = formatted.substring(0, formatted.length() - offsetId.length());
+        last = second = new Second(epochSecond, dateTime, offsetId);
+      }
+
+      if (nano == 0) {
+        return second.dateTime + second.offset;
+      }
+
+      // Same as ISO_LOCAL_TIME's fraction: as many digits as needed, no trailing zeros
+      final StringBuilder sb = new StringBuilder(second.dateTime.length() + 10 + second.offset.length());
+      sb.append(second.dateTime).append('.');
+      int digits = 9;
+      int fraction = nano;
+      while (fraction % 10 == 0) {
+        fraction /= 10;
+        digits--;
+      }
+      final String value = Integer.toString(fraction);
+      for (int i = value.length(); i < digits; i++) {
+        sb.append('0');
+      }
+      return sb.append(value).append(second.offset).toString();
+    }
+  }
 }
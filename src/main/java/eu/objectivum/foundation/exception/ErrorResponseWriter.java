@@ -0,0 +1,123 @@
+package eu.objectivum.foundation.exception;
+
+import eu.objectivum.foundation.json.JsonBuffer;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static eu.objectivum.foundation.json.JsonBuffer.ascii;
+import static eu.objectivum.foundation.json.JsonBuffer.quote;
+
+/**
+ * Streaming, reflection-free JSON serializer for {@link ErrorResponse}s, producing the very same output as Jackson's
+ * {@code ObjectMapper} (with its default settings) but several times faster and with (almost) no garbage.
+ * <p>
+ * Field names, {@link Severity severities} and the (few, recurring) {@link ErrorResponse#defaultType(Class) types} and
+ * titles are pre-encoded as UTF-8 bytes; everything else is escaped and encoded straight into a per-thread, reusable
+ * {@link JsonBuffer buffer} which is then copied to the target {@link OutputStream} or {@link ByteBuffer} in one go.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc7807">Problem Details for HTTP APIs</a>
+ */
+public final class ErrorResponseWriter {
+
+  public static final String MEDIA_TYPE = "application/problem+json";
+
+  private static final byte[] TYPE = ascii("{\"type\":");
+
+  private static final byte[] TITLE = ascii(",\"title\":");
+
+  private static final byte[] DETAIL = ascii(",\"detail\":");
+
+  private static final byte[] INSTANCE = ascii(",\"instance\":");
+
+  private static final byte[] TIMESTAMP = ascii(",\"timestamp\":");
+
+  private static final byte[] SEVERITY = ascii(",\"severity\":");
+
+  private static final Map<Severity, byte[]> SEVERITIES = new EnumMap<>(Severity.class);
+
+  static {
+    for (Severity severity : Severity.values()) {
+      SEVERITIES.put(severity, quote(severity.toCamelCase()));
+    }
+  }
+
+  /**
+   * Pre-encoded types and titles; simply cleared if it grows beyond {@link #MAX_CONSTANTS} entries.
+   */
+  private static final Map<String, byte[]> CONSTANTS = new ConcurrentHashMap<>();
+
+  private static final int MAX_CONSTANTS = 512;
+
+  private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+  private static final ThreadLocal<JsonBuffer> BUFFERS = ThreadLocal.withInitial(JsonBuffer::new);
+
+  private ErrorResponseWriter() {}
+
+  public static void write(@NotNull ErrorResponse response, @NotNull OutputStream out) throws IOException {
+    encode(response).writeTo(out);
+  }
+
+  /**
+   * @throws java.nio.BufferOverflowException if {@code target} does not have enough room left
+   */
+  public static void write(@NotNull ErrorResponse response, @NotNull ByteBuffer target) {
+    encode(response).writeTo(target);
+  }
+
+  @NotNull
+  public static byte[] toBytes(@NotNull ErrorResponse response) {
+    return encode(response).toByteArray();
+  }
+
+  private static JsonBuffer encode(ErrorResponse response) {
+    JsonBuffer buffer = BUFFERS.get();
+    if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+      BUFFERS.set(buffer = new JsonBuffer()); // do not hold on to the memory needed by some huge response
+    }
+    buffer.reset();
+
+    appendConstant(buffer.append(TYPE), response.getType());
+    appendConstant(buffer.append(TITLE), response.getTitle());
+    buffer.append(DETAIL).appendString(response.getDetail());
+    buffer.append(INSTANCE).appendString(response.getInstance());
+    buffer.append(TIMESTAMP).appendString(response.getTimestamp());
+
+    final Severity severity = response.getSeverity();
+    buffer.append(SEVERITY);
+    if (severity == null) {
+      buffer.appendNull();
+    } else {
+      buffer.append(SEVERITIES.get(severity));
+    }
+
+    return buffer.append((byte) '}');
+  }
+
+  /**
+   * Values that keep recurring (types, titles) are encoded only once.
+   */
+  private static void appendConstant(JsonBuffer buffer, String value) {
+    if (value == null) {
+      buffer.appendNull();
+      return;
+    }
+
+    byte[] encoded = CONSTANTS.get(value);
+    if (encoded == null) {
+      if (CONSTANTS.size() >= MAX_CONSTANTS) {
+        CONSTANTS.clear();
+      }
+      CONSTANTS.put(value, encoded = quote(value));
+    }
+    buffer.append(encoded);
+  }
+}
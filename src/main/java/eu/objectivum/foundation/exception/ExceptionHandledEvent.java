@@ -0,0 +1,27 @@
+package eu.objectivum.foundation.exception;
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event describing a {@link GenericExceptionHandler#handle(Thread, Throwable) handled} throwable; only
+ * slow handling is recorded by default and without a stack trace (handled throwables may come in bursts and the
+ * {@code Type} identifies them well enough).
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@Name("eu.objectivum.foundation.ExceptionHandled")
+@Label("Exception Handled")
+@Category({"Objectivum Foundation", "Exceptions"})
+@Description("A throwable handled by a GenericExceptionHandler")
+@Threshold("1 ms")
+@StackTrace(false)
+final class ExceptionHandledEvent extends Event {
+
+  @Label("Type")
+  @Description("Class name of the handled throwable")
+  String type;
+
+  @Label("Severity")
+  String severity;
+}
@@ -0,0 +1,46 @@
+package eu.objectivum.foundation.exception;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Customizes the {@link ErrorResponse error response} {@link GenericExceptionHandler#handle(Thread, Throwable)
+ * derived} for a throwable of (a subtype of) the type it is {@link ExceptionMapperRegistry#register(Class,
+ * ExceptionMapper) registered} for, e.g., to give framework or JDBC exceptions a proper type, title and severity.
+ * <p>
+ * The {@link ErrorResponse#getSeverity() severity} a mapper sets is also the one the throwable gets logged with; a
+ * mapper changing the severity should update the {@link ErrorResponse#getTitle() title} as well (see {@link
+ * #of(String, String, Severity)}).
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@FunctionalInterface
+public interface ExceptionMapper<T extends Throwable> {
+
+  /**
+   * @param response already filled in generically (type derived from the class name, title from the severity, detail
+   *                 from the message, etc.)
+   */
+  void map(@NotNull T throwable, @NotNull ErrorResponse response);
+
+  /**
+   * @param type     if {@code null}, the generic type is kept
+   * @param title    if {@code null} and {@code severity} is not, the title is derived from {@code severity}
+   * @param severity if {@code null}, the generic severity is kept
+   * @return a mapper setting fixed values
+   */
+  @NotNull
+  static <T extends Throwable> ExceptionMapper<T> of(String type, String title, Severity severity) {
+    return (throwable, response) -> {
+      if (type != null) {
+        response.setType(type);
+      }
+      if (severity != null) {
+        response.setSeverity(severity).setTitle(severity.toCamelCase());
+      }
+      if (title != null) {
+        response.setTitle(title);
+      }
+    };
+  }
+}
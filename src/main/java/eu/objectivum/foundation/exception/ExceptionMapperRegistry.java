@@ -0,0 +1,75 @@
+package eu.objectivum.foundation.exception;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ExceptionMapper Exception mappers} by throwable type, {@link #mapperFor(Class) resolved} to the one registered
+ * for the closest (super)class once per class, so that dispatching costs the same however many mappers are
+ * registered.
+ * <p>
+ * Registrations are expected to happen (mostly) at startup: each one drops all the resolutions made so far.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see GenericExceptionHandler#setMapperRegistry(ExceptionMapperRegistry)
+ */
+public class ExceptionMapperRegistry {
+
+  /**
+   * Resolved for classes no mapper is registered for.
+   */
+  public static final ExceptionMapper<Throwable> NO_MAPPER = (throwable, response) -> {};
+
+  private final Map<Class<?>, ExceptionMapper<?>> mappers = new ConcurrentHashMap<>();
+
+  /**
+   * Per-class resolutions; a {@link ClassValue} does not prevent classes (and their loaders) from being unloaded and
+   * does not lock on reads. Replaced as a whole when registrations change.
+   */
+  private volatile ClassValue<ExceptionMapper<Throwable>> resolved = newResolved();
+
+  public <T extends Throwable> ExceptionMapperRegistry register(@NotNull Class<T> type,
+                                                                @NotNull ExceptionMapper<? super T> mapper) {
+    mappers.put(type, mapper);
+    resolved = newResolved();
+    return this;
+  }
+
+  public ExceptionMapperRegistry unregister(Class<? extends Throwable> type) {
+    if (type != null && mappers.remove(type) != null) {
+      resolved = newResolved();
+    }
+    return this;
+  }
+
+  /**
+   * @return the mapper registered for {@code type} or for its closest supertype, {@link #NO_MAPPER} if none
+   */
+  @NotNull
+  public ExceptionMapper<Throwable> mapperFor(Class<? extends Throwable> type) {
+    return type == null ? NO_MAPPER : resolved.get(type);
+  }
+
+  private ClassValue<ExceptionMapper<Throwable>> newResolved() {
+    return new ClassValue<>() {
+      @Override
+      protected ExceptionMapper<Throwable> computeValue(Class<?> type) {
+        return resolve(type);
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private ExceptionMapper<Throwable> resolve(Class<?> type) {
+    for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+      final ExceptionMapper<?> mapper = mappers.get(clazz);
+      if (mapper != null) {
+        return (ExceptionMapper<Throwable>) mapper; // registered for a supertype of the throwables it gets
+      }
+    }
+    return NO_MAPPER;
+  }
+}
@@ -0,0 +1,326 @@
+package eu.objectivum.foundation.exception;
+
+import jakarta.validation.constraints.NotNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static eu.objectivum.foundation.exception.Severity.ERROR;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Quantitative view of what a {@link GenericExceptionHandler} processes: counts per exception type and per {@link
+ * Severity severity}, handling latency (as a log-linear histogram) and rates over sliding 1, 5 and 15-minute windows.
+ * <p>
+ * {@link #record(Throwable, Severity, long) Recording} does not allocate (once a type has been seen) and does not lock:
+ * all the counters are {@link LongAdder}s, which spread concurrent updates over several cells. Reading (through a
+ * {@link #snapshot() snapshot} or {@link #registerMBean() JMX}) sums them up and is comparatively expensive.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see GenericExceptionHandler#setMetrics(ExceptionMetrics)
+ */
+public class ExceptionMetrics implements ExceptionMetricsMXBean {
+
+  public static final String OBJECT_NAME_DEF = "eu.objectivum.foundation:type=ExceptionMetrics,name=default";
+
+  private static final String NULL_TYPE = "null";
+
+  private final Map<String, LongAdder> countsByType = new ConcurrentHashMap<>();
+
+  private final ClassValue<LongAdder> typeCounters = new ClassValue<>() {
+    @Override
+    protected LongAdder computeValue(Class<?> clazz) {
+      return countsByType.computeIfAbsent(clazz.getName(), name -> new LongAdder());
+    }
+  };
+
+  private final LongAdder[] countsBySeverity = new LongAdder[Severity.values().length];
+
+  private final LatencyHistogram latencies = new LatencyHistogram();
+
+  private final SlidingCounter rates = new SlidingCounter(15 * 60 + 1); // the current second is not reported
+
+  public ExceptionMetrics() {
+    for (int i = 0; i < countsBySeverity.length; i++) {
+      countsBySeverity[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * @param latencyNanos how long handling {@code throwable} took
+   */
+  public void record(Throwable throwable, Severity severity, long latencyNanos) {
+    (throwable == null ? countsByType.computeIfAbsent(NULL_TYPE, name -> new LongAdder())
+                       : typeCounters.get(throwable.getClass())).increment();
+    countsBySeverity[(severity == null ? ERROR : severity).ordinal()].increment();
+    latencies.record(latencyNanos);
+    rates.increment();
+  }
+
+  @NotNull
+  public Snapshot snapshot() {
+    final Map<Severity, Long> bySeverity = new EnumMap<>(Severity.class);
+    for (Severity severity : Severity.values()) {
+      bySeverity.put(severity, countsBySeverity[severity.ordinal()].sum());
+    }
+    return new Snapshot(getTotalCount(), unmodifiableMap(bySeverity), getCountsByType(), getMeanLatencyMicros(),
+                        getP50LatencyMicros(), getP99LatencyMicros(), getP999LatencyMicros(), getMaxLatencyMicros(),
+                        getOneMinuteRate(), getFiveMinuteRate(), getFifteenMinuteRate());
+  }
+
+  /**
+   * Registers {@code this} with the platform MBean server under {@link #OBJECT_NAME_DEF}.
+   */
+  public ExceptionMetrics registerMBean() throws JMException {
+    return registerMBean(new ObjectName(OBJECT_NAME_DEF));
+  }
+
+  public ExceptionMetrics registerMBean(@NotNull ObjectName name) throws JMException {
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    if (server.isRegistered(name)) {
+      server.unregisterMBean(name);
+    }
+    server.registerMBean(this, name);
+    return this;
+  }
+
+  @Override
+  public long getTotalCount() {
+    long total = 0;
+    for (LongAdder count : countsBySeverity) {
+      total += count.sum();
+    }
+    return total;
+  }
+
+  @Override
+  public Map<String, Long> getCountsBySeverity() {
+    final Map<String, Long> counts = new TreeMap<>();
+    for (Severity severity : Severity.values()) {
+      counts.put(severity.name(), countsBySeverity[severity.ordinal()].sum());
+    }
+    return counts;
+  }
+
+  @Override
+  public Map<String, Long> getCountsByType() {
+    final Map<String, Long> counts = new TreeMap<>();
+    countsByType.forEach((type, count) -> counts.put(type, count.sum()));
+    return counts;
+  }
+
+  @Override
+  public double getMeanLatencyMicros() {
+    return latencies.mean() / 1_000.0;
+  }
+
+  @Override
+  public double getP50LatencyMicros() {
+    return latencies.percentile(0.5) / 1_000.0;
+  }
+
+  @Override
+  public double getP99LatencyMicros() {
+    return latencies.percentile(0.99) / 1_000.0;
+  }
+
+  @Override
+  public double getP999LatencyMicros() {
+    return latencies.percentile(0.999) / 1_000.0;
+  }
+
+  @Override
+  public double getMaxLatencyMicros() {
+    return latencies.max() / 1_000.0;
+  }
+
+  @Override
+  public double getOneMinuteRate() {
+    return rates.rate(60);
+  }
+
+  @Override
+  public double getFiveMinuteRate() {
+    return rates.rate(5 * 60);
+  }
+
+  @Override
+  public double getFifteenMinuteRate() {
+    return rates.rate(15 * 60);
+  }
+
+  @Override
+  public void reset() {
+    countsByType.values().forEach(LongAdder::reset);
+    for (LongAdder count : countsBySeverity) {
+      count.reset();
+    }
+    latencies.reset();
+    rates.reset();
+  }
+
+  /**
+   * Point-in-time copy of the metrics; latencies in microseconds, rates in events per second.
+   */
+  public record Snapshot(long totalCount, Map<Severity, Long> countsBySeverity, Map<String, Long> countsByType,
+                         double meanLatencyMicros, double p50LatencyMicros, double p99LatencyMicros,
+                         double p999LatencyMicros, double maxLatencyMicros, double oneMinuteRate,
+                         double fiveMinuteRate, double fifteenMinuteRate) {}
+
+  /**
+   * Log-linear histogram: values are grouped by power of two, each power of two being split in {@value #SUB_BUCKETS}
+   * linear sub-buckets (i.e., a relative error of at most 12.5%).
+   */
+  static final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final LongAdder[] buckets = new LongAdder[SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS];
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+      for (int i = 0; i < buckets.length; i++) {
+        buckets[i] = new LongAdder();
+      }
+    }
+
+    void record(long value) {
+      if (value < 0) {
+        value = 0;
+      }
+      buckets[index(value)].increment();
+      sum.add(value);
+      max.accumulate(value);
+    }
+
+    static int index(long value) {
+      if (value < SUB_BUCKETS) {
+        return (int) value;
+      }
+      final int exponent = 63 - Long.numberOfLeadingZeros(value);
+      final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+      return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return the middle of the range of values falling into the bucket at {@code index}
+     */
+    static double value(int index) {
+      if (index < SUB_BUCKETS) {
+        return index;
+      }
+      final int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+      final int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+      final double width = Math.pow(2, exponent - SUB_BUCKET_BITS);
+      return (SUB_BUCKETS + subBucket) * width + width / 2;
+    }
+
+    double percentile(double quantile) {
+      final long[] counts = new long[buckets.length];
+      long total = 0;
+      for (int i = 0; i < buckets.length; i++) {
+        total += counts[i] = buckets[i].sum();
+      }
+      if (total == 0) {
+        return 0;
+      }
+
+      final long rank = (long) Math.ceil(quantile * total);
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return Math.min(value(i), max());
+        }
+      }
+      return max();
+    }
+
+    double mean() {
+      long total = 0;
+      for (LongAdder bucket : buckets) {
+        total += bucket.sum();
+      }
+      return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    long max() {
+      return max.get();
+    }
+
+    void reset() {
+      for (LongAdder bucket : buckets) {
+        bucket.reset();
+      }
+      sum.reset();
+      max.reset();
+    }
+  }
+
+  /**
+   * Per-second counts over a ring of seconds; slots are lazily recycled as time goes by.
+   */
+  static final class SlidingCounter {
+
+    private final LongAdder[] counts;
+
+    private final AtomicLongArray seconds;
+
+    SlidingCounter(int windowSeconds) {
+      counts = new LongAdder[windowSeconds];
+      seconds = new AtomicLongArray(windowSeconds);
+      for (int i = 0; i < windowSeconds; i++) {
+        counts[i] = new LongAdder();
+        seconds.set(i, Long.MIN_VALUE);
+      }
+    }
+
+    void increment() {
+      final long second = System.nanoTime() / 1_000_000_000L;
+      final int slot = (int) Math.floorMod(second, (long) counts.length);
+      final long slotSecond = seconds.get(slot);
+      if (slotSecond != second && seconds.compareAndSet(slot, slotSecond, second)) {
+        counts[slot].reset(); // a few concurrent increments may get lost in the process, which is fine for rates
+      }
+      counts[slot].increment();
+    }
+
+    /**
+     * @return the average number of events per second over the last {@code windowSeconds} (complete) seconds
+     */
+    double rate(int windowSeconds) {
+      final int window = Math.min(windowSeconds, counts.length - 1);
+      final long now = System.nanoTime() / 1_000_000_000L;
+      long total = 0;
+      for (long second = now - window; second < now; second++) {
+        final int slot = (int) Math.floorMod(second, (long) counts.length);
+        if (seconds.get(slot) == second) {
+          total += counts[slot].sum();
+        }
+      }
+      return (double) total / window;
+    }
+
+    void reset() {
+      for (int i = 0; i < counts.length; i++) {
+        seconds.set(i, Long.MIN_VALUE);
+        counts[i].reset();
+      }
+    }
+  }
+}
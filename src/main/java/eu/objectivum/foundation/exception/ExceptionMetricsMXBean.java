@@ -0,0 +1,36 @@
+package eu.objectivum.foundation.exception;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link ExceptionMetrics}; latencies are expressed in microseconds, rates in events per second.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+public interface ExceptionMetricsMXBean {
+
+  long getTotalCount();
+
+  Map<String, Long> getCountsBySeverity();
+
+  Map<String, Long> getCountsByType();
+
+  double getMeanLatencyMicros();
+
+  double getP50LatencyMicros();
+
+  double getP99LatencyMicros();
+
+  double getP999LatencyMicros();
+
+  double getMaxLatencyMicros();
+
+  double getOneMinuteRate();
+
+  double getFiveMinuteRate();
+
+  double getFifteenMinuteRate();
+
+  void reset();
+}
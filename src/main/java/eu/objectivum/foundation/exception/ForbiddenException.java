@@ -7,6 +7,12 @@ package eu.objectivum.foundation.exception;
  */
 public class ForbiddenException extends ApplicationException {
 
+  /**
+   * Shared, immutable, stackless and message-less instance, for when throwing is just control flow.
+   */
+  public static final ForbiddenException STACKLESS =
+    (ForbiddenException) new ForbiddenException(null, null, false, false).freeze();
+
   public ForbiddenException() {}
 
   public ForbiddenException(String message) {
@@ -20,4 +26,11 @@ public class ForbiddenException extends ApplicationException {
   public ForbiddenException(String message, Throwable cause) {
     super(message, cause);
   }
+
+  /**
+   * @see ApplicationException#ApplicationException(String, Throwable, boolean, boolean)
+   */
+  public ForbiddenException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
 }
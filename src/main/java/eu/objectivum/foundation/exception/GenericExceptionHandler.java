@@ -4,6 +4,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.function.Consumer;
 
 import static eu.objectivum.foundation.exception.ApplicationException.NO_ADDITIONAL_DETAILS_AVAILABLE_MSG;
 import static eu.objectivum.foundation.exception.ErrorResponse.defaultType;
@@ -18,6 +19,13 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * <p>
  * The result of the {@code handle()} methods is especially suited to web-based applications
  * or services that provide feedback to web UIs.
+ * <p>
+ * When a {@link #setDeduplicator(ThrowableDeduplicator) deduplicator} is set, only the first occurrence of a
+ * throwable is logged in full; its repeats are counted and periodically summarized. When a {@link
+ * #setPipeline(AsyncErrorPipeline) pipeline} is set, the error response is still built on the caller's thread but the
+ * logging (and any other processing) happens asynchronously. When a {@link #setMapperRegistry(ExceptionMapperRegistry)
+ * mapper registry} is set, the error response derived generically is then customized by the mapper registered for the
+ * throwable's class (or closest superclass).
  *
  * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
  * @version 1.0, Oct 3, 2021
@@ -27,7 +35,79 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  *   Boot</a>
  */
 @Slf4j
-public class GenericExceptionHandler implements UncaughtExceptionHandler {
+public class GenericExceptionHandler implements UncaughtExceptionHandler, AutoCloseable {
+
+  private ThrowableDeduplicator deduplicator;
+
+  private AsyncErrorPipeline pipeline;
+
+  private ExceptionMetrics metrics;
+
+  private ExceptionMapperRegistry mapperRegistry;
+
+  private final Consumer<AsyncErrorPipeline.Event> logSink = event -> log(event.throwable(), event.severity());
+
+  public ThrowableDeduplicator getDeduplicator() {
+    return deduplicator;
+  }
+
+  /**
+   * @param deduplicator if {@code null}, every throwable is logged in full; otherwise, its repeat summaries are emitted
+   *                     on its own thread as well, until {@code this} handler is {@link #close() closed} (or given
+   *                     another deduplicator)
+   */
+  public GenericExceptionHandler setDeduplicator(ThrowableDeduplicator deduplicator) {
+    if (this.deduplicator != null && this.deduplicator != deduplicator) {
+      this.deduplicator.stopSummarizing();
+    }
+    this.deduplicator = deduplicator;
+    if (deduplicator != null) {
+      deduplicator.startSummarizing(log);
+    }
+    return this;
+  }
+
+  public AsyncErrorPipeline getPipeline() {
+    return pipeline;
+  }
+
+  /**
+   * @param pipeline if non-{@code null}, throwables are logged by (and on the consumer thread of) {@code pipeline}
+   */
+  public GenericExceptionHandler setPipeline(AsyncErrorPipeline pipeline) {
+    if (this.pipeline != null) {
+      this.pipeline.removeSink(logSink);
+    }
+    this.pipeline = pipeline;
+    if (pipeline != null) {
+      pipeline.addSink(logSink);
+    }
+    return this;
+  }
+
+  public ExceptionMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * @param metrics if non-{@code null}, records what {@code this} handler processes and how long it takes
+   */
+  public GenericExceptionHandler setMetrics(ExceptionMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  public ExceptionMapperRegistry getMapperRegistry() {
+    return mapperRegistry;
+  }
+
+  /**
+   * @param mapperRegistry if {@code null}, error responses are derived generically only
+   */
+  public GenericExceptionHandler setMapperRegistry(ExceptionMapperRegistry mapperRegistry) {
+    this.mapperRegistry = mapperRegistry;
+    return this;
+  }
 
   @Override
   public void uncaughtException(Thread thread, Throwable throwable) {
@@ -36,27 +116,22 @@ public class GenericExceptionHandler implements UncaughtExceptionHandler {
 
   @NotNull
   public ErrorResponse handle(Thread thread, Throwable throwable) {
+    final ExceptionMetrics metrics = this.metrics;
+    final long start = metrics == null ? 0 : System.nanoTime();
+    final ExceptionHandledEvent event = new ExceptionHandledEvent(); // a no-op unless recording
+    event.begin();
 
     Severity severity = null;
     if (throwable instanceof final ApplicationException applicationException) {
       severity = applicationException.getSeverity();
+      // while (most likely) still on the throwing thread, i.e., before any asynchronous processing
+      applicationException.resolveContext(thread == null ? Thread.currentThread() : thread);
     }
     if (severity == null) {
       severity = ERROR;
     }
 
-    // 1. Log the exception, including its stack trace
-
-    if (throwable == null) {
-      log.error("null");
-    } else {
-      switch (severity) {
-      case WARNING -> log.warn("", throwable);
-      case ERROR, default -> log.error("", throwable);
-      }
-    }
-
-    // 2. Return an appropriate error response
+    // 1. Compute an appropriate error response
 
     String detail = throwable == null ? null : throwable.getMessage();
     if (detail == null && throwable != null) {
@@ -70,15 +145,85 @@ public class GenericExceptionHandler implements UncaughtExceptionHandler {
       detail = NO_ADDITIONAL_DETAILS_AVAILABLE_MSG;
     }
 
-    return new ErrorResponse()
-      .setType(defaultType(throwable))
+    final String type = defaultType(throwable);
+    final ErrorResponse response = new ErrorResponse()
+      .setType(type)
       .setTitle(severity.toCamelCase())
       .setDetail(detail)
       .setSeverity(severity);
+
+    final ExceptionMapperRegistry mapperRegistry = this.mapperRegistry;
+    if (mapperRegistry != null && throwable != null) {
+      try {
+        mapperRegistry.mapperFor(throwable.getClass()).map(throwable, response);
+        if (response.getSeverity() != null) {
+          severity = response.getSeverity();
+        }
+      } catch (RuntimeException | LinkageError ex) {
+        // a faulty mapper must not keep the original throwable from being logged: fall back to the generic response
+        log.error("Exception mapper for {} failed", throwable.getClass().getName(), ex);
+        response
+          .setType(type)
+          .setTitle(severity.toCamelCase())
+          .setDetail(detail)
+          .setInstance(null)
+          .setSeverity(severity);
+      }
+    }
+
+    // 2. Log the exception, including its stack trace, here or asynchronously
+
+    final AsyncErrorPipeline pipeline = this.pipeline;
+    if (pipeline == null || !pipeline.submit(new AsyncErrorPipeline.Event(thread, throwable, severity, response))) {
+      log(throwable, severity);
+    }
+
+    if (metrics != null) {
+      metrics.record(throwable, severity, System.nanoTime() - start);
+    }
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.type = throwable == null ? null : throwable.getClass().getName();
+      event.severity = severity.name();
+      event.commit();
+    }
+    return response;
+  }
+
+  /**
+   * Logs {@code throwable}, including its stack trace (unless it is a {@link #setDeduplicator(ThrowableDeduplicator)
+   * repeat}).
+   */
+  protected void log(Throwable throwable, Severity severity) {
+    final ThrowableDeduplicator deduplicator = this.deduplicator;
+    if (throwable == null) {
+      log.error("null");
+    } else if (deduplicator == null || deduplicator.firstOccurrence(throwable, severity)) {
+      switch (severity) {
+      case WARNING -> log.warn("", throwable);
+      case ERROR, default -> log.error("", throwable);
+      }
+    }
+    if (deduplicator != null) {
+      deduplicator.summarizeIfDue(log);
+    }
   }
 
   @NotNull
   public ErrorResponse handle(Throwable throwable) {
     return handle(null, throwable);
   }
+
+  /**
+   * Stops the {@link #setDeduplicator(ThrowableDeduplicator) deduplicator}'s summarizing thread, emitting the pending
+   * summaries; the {@link #setPipeline(AsyncErrorPipeline) pipeline}, if any, is closed by its owner.
+   */
+  @Override
+  public void close() {
+    final ThrowableDeduplicator deduplicator = this.deduplicator;
+    if (deduplicator != null) {
+      deduplicator.stopSummarizing();
+    }
+  }
 }
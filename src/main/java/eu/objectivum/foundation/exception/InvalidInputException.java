@@ -7,6 +7,12 @@ package eu.objectivum.foundation.exception;
  */
 public class InvalidInputException extends ApplicationException {
 
+  /**
+   * Shared, immutable, stackless and message-less instance, for when throwing is just control flow.
+   */
+  public static final InvalidInputException STACKLESS =
+    (InvalidInputException) new InvalidInputException(null, null, false, false).freeze();
+
   public InvalidInputException() {}
 
   public InvalidInputException(String message) {
@@ -20,4 +26,11 @@ public class InvalidInputException extends ApplicationException {
   public InvalidInputException(String message, Throwable cause) {
     super(message, cause);
   }
+
+  /**
+   * @see ApplicationException#ApplicationException(String, Throwable, boolean, boolean)
+   */
+  public InvalidInputException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
 }
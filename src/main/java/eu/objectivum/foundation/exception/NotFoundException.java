@@ -7,6 +7,12 @@ package eu.objectivum.foundation.exception;
  */
 public class NotFoundException extends ApplicationException {
 
+  /**
+   * Shared, immutable, stackless and message-less instance, for when throwing is just control flow.
+   */
+  public static final NotFoundException STACKLESS =
+    (NotFoundException) new NotFoundException(null, null, false, false).freeze();
+
   public NotFoundException() {}
 
   public NotFoundException(String message) {
@@ -20,4 +26,11 @@ public class NotFoundException extends ApplicationException {
   public NotFoundException(String message, Throwable cause) {
     super(message, cause);
   }
+
+  /**
+   * @see ApplicationException#ApplicationException(String, Throwable, boolean, boolean)
+   */
+  public NotFoundException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
 }
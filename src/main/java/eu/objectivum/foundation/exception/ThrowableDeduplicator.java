@@ -0,0 +1,393 @@
+package eu.objectivum.foundation.exception;
+
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static eu.objectivum.foundation.exception.Severity.ERROR;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Tells the first occurrence of a throwable apart from its repeats, so that only the former gets logged in full.
+ * <p>
+ * Throwables are identified by a <em>fingerprint</em> made of their class, their message <em>template</em> (the message
+ * with all digit sequences considered equal, so that ids, counters, etc. do not matter) and their top {@link
+ * #getFrames() frames}. Repeats are counted (without locking) per fingerprint and {@link #summarize(Logger)
+ * summarized} once per {@link #getWindow() window}, in a single line per fingerprint, by the handler and, once {@link
+ * #startSummarizing(Logger) started}, by a daemon thread (so that the repeats of a burst that has stopped still get
+ * reported). Fingerprints that have not been seen for a whole window are forgotten (their next occurrence is logged in
+ * full again) and at most {@link #getMaxFingerprints() a given number} of them are tracked at any time; throwables that
+ * do not fit are simply reported as first occurrences.
+ * <p>
+ * Fingerprints are kept in copy-on-write stripes of primitive hashes, so that looking up a repeat neither locks nor
+ * allocates, and the fingerprints of the most recently seen throwables are remembered by identity, so that a throwable
+ * handled more than once (e.g., a shared or rethrown one) is not fingerprinted (nor its stack trace copied) again.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see GenericExceptionHandler#setDeduplicator(ThrowableDeduplicator)
+ */
+public class ThrowableDeduplicator {
+
+  public static final int FRAMES_DEF = 5;
+
+  public static final int MAX_FINGERPRINTS_DEF = 1024;
+
+  public static final Duration WINDOW_DEF = Duration.ofMinutes(1);
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  /**
+   * Number of (the most recently) fingerprinted throwables remembered by identity; a power of 2.
+   */
+  private static final int SEEN_SIZE = 64;
+
+  private static final int MAX_STRIPES = 1 << 16;
+
+  private final int frames;
+
+  private final int maxFingerprints;
+
+  private final Duration window;
+
+  private final long windowMillis;
+
+  /**
+   * Indexed by the (mixed) fingerprint hashes; each stripe is replaced as a whole whenever fingerprints are added to or
+   * removed from it.
+   */
+  private final AtomicReferenceArray<Stripe> stripes;
+
+  private final AtomicInteger size = new AtomicInteger();
+
+  /**
+   * Written and read racily, which is fine since the entries are immutable and a lost entry only costs a recomputation.
+   */
+  private final Seen[] seen = new Seen[SEEN_SIZE];
+
+  private final AtomicLong windowStart = new AtomicLong(System.currentTimeMillis());
+
+  private final LongAdder untracked = new LongAdder();
+
+  private ScheduledExecutorService scheduler;
+
+  private Logger summaryLog;
+
+  public ThrowableDeduplicator() {
+    this(FRAMES_DEF, MAX_FINGERPRINTS_DEF, WINDOW_DEF);
+  }
+
+  public ThrowableDeduplicator(int frames, int maxFingerprints, @NotNull Duration window) {
+    if (frames < 0 || maxFingerprints < 1 || window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException("Invalid deduplication settings");
+    }
+    this.frames = frames;
+    this.maxFingerprints = maxFingerprints;
+    this.window = window;
+    this.windowMillis = window.toMillis();
+
+    // about 4 fingerprints per stripe when full, so that scanning one is as cheap as hashing into it
+    final int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, maxFingerprints / 4)));
+    this.stripes = new AtomicReferenceArray<>(stripeCount);
+    for (int i = 0; i < stripeCount; i++) {
+      stripes.set(i, Stripe.EMPTY);
+    }
+  }
+
+  /**
+   * @return {@code true} if {@code throwable} should be logged in full, {@code false} if it is a (counted) repeat
+   */
+  public boolean firstOccurrence(Throwable throwable, Severity severity) {
+    if (throwable == null) {
+      return true;
+    }
+
+    final long fingerprint = seenFingerprint(throwable);
+    final int index = index(fingerprint);
+
+    final Fingerprint known = stripes.get(index).get(fingerprint);
+    if (known != null) {
+      known.repeats.increment();
+      return false;
+    }
+
+    if (size.get() >= maxFingerprints) {
+      untracked.increment();
+      return true;
+    }
+
+    // Whoever gets to register the fingerprint logs the throwable; the others are repeats
+    final Fingerprint registered = new Fingerprint(throwable, severity);
+    for (; ; ) {
+      final Stripe stripe = stripes.get(index);
+      final Fingerprint existing = stripe.get(fingerprint);
+      if (existing != null) {
+        existing.repeats.increment();
+        return false;
+      }
+      if (stripes.compareAndSet(index, stripe, stripe.with(fingerprint, registered))) {
+        size.incrementAndGet();
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @return the {@link #fingerprint(Throwable) fingerprint} of {@code throwable}, computed only if it is not one of the
+   *   most recently fingerprinted throwables (whose messages and stack traces are not expected to change)
+   */
+  private long seenFingerprint(Throwable throwable) {
+    final int slot = System.identityHashCode(throwable) & (SEEN_SIZE - 1);
+    final Seen last = seen[slot];
+    if (last != null && last.throwable.get() == throwable) {
+      return last.fingerprint;
+    }
+
+    final long fingerprint = fingerprint(throwable);
+    seen[slot] = new Seen(new WeakReference<>(throwable), fingerprint);
+    return fingerprint;
+  }
+
+  private int index(long fingerprint) {
+    return (int) (fingerprint ^ (fingerprint >>> 32)) & (stripes.length() - 1);
+  }
+
+  private void remove(int index, Fingerprint entry) {
+    for (; ; ) {
+      final Stripe stripe = stripes.get(index);
+      final Stripe without = stripe.without(entry);
+      if (without == stripe) {
+        return; // already removed
+      }
+      if (stripes.compareAndSet(index, stripe, without)) {
+        size.decrementAndGet();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Emits the summary lines if the current window is over; cheap enough to be called on every handled throwable.
+   */
+  public void summarizeIfDue(@NotNull Logger log) {
+    final long start = windowStart.get();
+    final long now = System.currentTimeMillis();
+    if (now - start >= windowMillis && windowStart.compareAndSet(start, now)) {
+      summarize(log, start, now);
+    }
+  }
+
+  /**
+   * Checks, on a daemon thread and a few times per {@link #getWindow() window}, whether {@link #summarizeIfDue(Logger)
+   * summaries are due}, so that they get emitted even when no more throwables get handled; does nothing if already
+   * started.
+   */
+  public synchronized ThrowableDeduplicator startSummarizing(@NotNull Logger log) {
+    if (scheduler != null) {
+      return this;
+    }
+    summaryLog = log;
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "throwable-deduplicator");
+      thread.setDaemon(true);
+      return thread;
+    });
+    // checking more often than once per window keeps summaries from being up to a whole window late
+    final long period = Math.max(1, windowMillis / 4);
+    scheduler.scheduleAtFixedRate(() -> {
+      try {
+        summarizeIfDue(log);
+      } catch (RuntimeException ex) {
+        log.warn("Cannot summarize repeated throwables", ex); // and keep the task scheduled
+      }
+    }, period, period, MILLISECONDS);
+    return this;
+  }
+
+  /**
+   * Stops the {@link #startSummarizing(Logger) summarizing thread}, if started, and emits the pending summaries.
+   */
+  public synchronized ThrowableDeduplicator stopSummarizing() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+      summarize(summaryLog);
+      summaryLog = null;
+    }
+    return this;
+  }
+
+  /**
+   * Emits one line per fingerprint repeated since the last summary and forgets the idle ones.
+   */
+  public void summarize(@NotNull Logger log) {
+    final long now = System.currentTimeMillis();
+    summarize(log, windowStart.getAndSet(now), now);
+  }
+
+  private void summarize(Logger log, long start, long end) {
+    for (int index = 0, n = stripes.length(); index < n; index++) {
+      final Stripe stripe = stripes.get(index);
+      for (int i = 0; i < stripe.hashes.length; i++) {
+        final Fingerprint entry = stripe.entries[i];
+        final long repeats = entry.repeats.sumThenReset();
+        if (repeats > 0) {
+          entry.idle = false;
+          final String format = "{} more occurrence(s) in the last {} ms of [{}] {}";
+          final Object[] args = {repeats, end - start, Long.toHexString(stripe.hashes[i]), entry.description};
+          switch (entry.severity) {
+          case WARNING -> log.warn(format, args);
+          case ERROR, default -> log.error(format, args);
+          }
+        } else if (entry.idle) {
+          remove(index, entry);
+        } else {
+          entry.idle = true; // forgotten next time, unless repeated in the meantime
+        }
+      }
+    }
+
+    final long untrackedCount = untracked.sumThenReset();
+    if (untrackedCount > 0) {
+      log.warn("{} throwable(s) in the last {} ms could not be deduplicated (more than {} fingerprints)",
+               untrackedCount, end - start, maxFingerprints);
+    }
+  }
+
+  /**
+   * 64-bit FNV-1a hash of the class name, message template and top {@link #getFrames() frames} of {@code throwable}.
+   */
+  protected long fingerprint(@NotNull Throwable throwable) {
+    long hash = hash(FNV_OFFSET_BASIS, throwable.getClass().getName());
+
+    final String message = throwable.getMessage();
+    if (message != null) {
+      boolean inDigits = false;
+      for (int i = 0, n = message.length(); i < n; i++) {
+        final char ch = message.charAt(i);
+        if (Character.isDigit(ch)) {
+          if (!inDigits) {
+            hash = (hash ^ '#') * FNV_PRIME;
+            inDigits = true;
+          }
+        } else {
+          hash = (hash ^ ch) * FNV_PRIME;
+          inDigits = false;
+        }
+      }
+    }
+
+    if (frames > 0) {
+      final StackTraceElement[] stackTrace = throwable.getStackTrace();
+      for (int i = 0, n = Math.min(frames, stackTrace.length); i < n; i++) {
+        final StackTraceElement frame = stackTrace[i];
+        hash = hash(hash, frame.getClassName());
+        hash = hash(hash, frame.getMethodName());
+        hash = (hash ^ frame.getLineNumber()) * FNV_PRIME;
+      }
+    }
+
+    return hash;
+  }
+
+  private static long hash(long hash, String string) {
+    for (int i = 0, n = string.length(); i < n; i++) {
+      hash = (hash ^ string.charAt(i)) * FNV_PRIME;
+    }
+    return (hash ^ 0xff) * FNV_PRIME; // separator
+  }
+
+  public int getFrames() {
+    return frames;
+  }
+
+  public int getMaxFingerprints() {
+    return maxFingerprints;
+  }
+
+  public Duration getWindow() {
+    return window;
+  }
+
+  /**
+   * @return the number of fingerprints currently tracked
+   */
+  public int size() {
+    return size.get();
+  }
+
+  private record Seen(WeakReference<Throwable> throwable, long fingerprint) {}
+
+  /**
+   * Immutable, (usually) tiny set of fingerprints, scanned linearly.
+   */
+  private record Stripe(long[] hashes, Fingerprint[] entries) {
+
+    static final Stripe EMPTY = new Stripe(new long[0], new Fingerprint[0]);
+
+    Fingerprint get(long hash) {
+      for (int i = 0; i < hashes.length; i++) {
+        if (hashes[i] == hash) {
+          return entries[i];
+        }
+      }
+      return null;
+    }
+
+    Stripe with(long hash, Fingerprint entry) {
+      final int n = hashes.length;
+      final long[] newHashes = Arrays.copyOf(hashes, n + 1);
+      final Fingerprint[] newEntries = Arrays.copyOf(entries, n + 1);
+      newHashes[n] = hash;
+      newEntries[n] = entry;
+      return new Stripe(newHashes, newEntries);
+    }
+
+    /**
+     * @return a copy without {@code entry} or this very stripe if it does not contain it
+     */
+    Stripe without(Fingerprint entry) {
+      for (int i = 0, n = entries.length; i < n; i++) {
+        if (entries[i] == entry) {
+          final long[] newHashes = new long[n - 1];
+          final Fingerprint[] newEntries = new Fingerprint[n - 1];
+          System.arraycopy(hashes, 0, newHashes, 0, i);
+          System.arraycopy(hashes, i + 1, newHashes, i, n - i - 1);
+          System.arraycopy(entries, 0, newEntries, 0, i);
+          System.arraycopy(entries, i + 1, newEntries, i, n - i - 1);
+          return new Stripe(newHashes, newEntries);
+        }
+      }
+      return this;
+    }
+  }
+
+  private static final class Fingerprint {
+
+    final String description;
+
+    final Severity severity;
+
+    final LongAdder repeats = new LongAdder();
+
+    volatile boolean idle;
+
+    Fingerprint(Throwable throwable, Severity severity) {
+      final String message = throwable.getMessage();
+      final String className = throwable.getClass().getName();
+      this.description = message == null ? className : className + ": " + message;
+      this.severity = severity == null ? ERROR : severity;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package eu.objectivum.foundation.i18n;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static eu.objectivum.foundation.i18n.MappedBundleSupplier.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Compiles {@code .properties} bundles into the binary, one-file-per-locale format read by the {@link
+ * MappedBundleSupplier mapped bundle supplier}, e.g., at build time:
+ * <pre>{@code
+ * java -cp target/classes:... eu.objectivum.foundation.i18n.BundleCompiler \
+ *      src/main/resources target/l10n l10n/common l10n/errors l10n/labels
+ * }</pre>
+ * The base names are resolved against the source directory and should be the ones {@link SimpleI18n} looks up,
+ * i.e., include its {@link SimpleI18n#L10N_BASEDIR_KEY bundle prefix}. Files are written to a temporary file first
+ * and then moved in place, so that suppliers having mapped the previous versions are not affected.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+public class BundleCompiler {
+
+  /**
+   * Matches the locale suffix of a bundle file name, e.g., {@code _de}, {@code _pt_BR} or {@code _en_US_POSIX}.
+   */
+  private static final Pattern LOCALE_SUFFIX = Pattern.compile("_([a-z]{2,3})(?:_([A-Z]{2}|[0-9]{3})(?:_(\\w+))?)?");
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3) {
+      System.err.println("Usage: BundleCompiler <source directory> <target directory> <base name>...");
+      System.exit(2);
+      return;
+    }
+    final List<Path> written =
+      compile(Path.of(args[0]), Path.of(args[1]), Arrays.asList(args).subList(2, args.length));
+    written.forEach(path -> System.out.println("Wrote " + path));
+  }
+
+  /**
+   * @return the files written, one per locale found
+   */
+  public static List<Path> compile(@NotNull Path sourceDirectory, @NotNull Path targetDirectory,
+                                   @NotNull Collection<String> baseNames) throws IOException {
+    // locale -> base name -> key -> value, all sorted so that the output is reproducible
+    final Map<Locale, SortedMap<String, Map<String, String>>> messages =
+      new TreeMap<>(Comparator.comparing(Locale::toString));
+    for (String baseName : baseNames) {
+      final Path base = sourceDirectory.resolve(baseName);
+      final String name = base.getFileName().toString();
+      final Path directory = base.getParent() == null ? Path.of("") : base.getParent();
+
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, name + "*.properties")) {
+        for (Path file : files) {
+          final String fileName = file.getFileName().toString();
+          final Locale locale = locale(fileName.substring(name.length(), fileName.length() - ".properties".length()));
+          if (locale != null) {
+            messages.computeIfAbsent(locale, l -> new TreeMap<>()).put(baseName, load(file));
+          }
+        }
+      }
+    }
+
+    Files.createDirectories(targetDirectory);
+    final List<Path> written = new ArrayList<>(messages.size());
+    for (Map.Entry<Locale, SortedMap<String, Map<String, String>>> entry : messages.entrySet()) {
+      final Path target = targetDirectory.resolve(fileName(entry.getKey()));
+      final Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+      try {
+        Files.write(temporary, encode(entry.getValue()));
+        Files.move(temporary, target, REPLACE_EXISTING, ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+      written.add(target);
+    }
+    return written;
+  }
+
+  /**
+   * @return the locale denoted by a file name suffix, {@link Locale#ROOT} for no suffix or {@code null} if the suffix
+   *   is not a locale (but, e.g., part of another base name)
+   */
+  private static Locale locale(String suffix) {
+    if (suffix.isEmpty()) {
+      return Locale.ROOT;
+    }
+    final Matcher matcher = LOCALE_SUFFIX.matcher(suffix);
+    if (!matcher.matches()) {
+      return null;
+    }
+    return new Locale(matcher.group(1), Objects.toString(matcher.group(2), ""), Objects.toString(matcher.group(3), ""));
+  }
+
+  private static Map<String, String> load(Path file) throws IOException {
+    try (InputStream in = Files.newInputStream(file)) {
+      final PropertyResourceBundle properties = new PropertyResourceBundle(in); // UTF-8, falling back to ISO-8859-1
+      final Map<String, String> messages = new HashMap<>();
+      for (String key : properties.keySet()) {
+        messages.put(key, properties.getString(key));
+      }
+      return messages;
+    }
+  }
+
+  static byte[] encode(SortedMap<String, Map<String, String>> sections) {
+    final List<byte[]> names = new ArrayList<>(sections.size());
+    final List<byte[][]> keys = new ArrayList<>(sections.size());
+    final List<byte[][]> values = new ArrayList<>(sections.size());
+    int entryCount = 0;
+    int stringsSize = 0;
+    for (Map.Entry<String, Map<String, String>> section : sections.entrySet()) {
+      final byte[] name = section.getKey().getBytes(UTF_8);
+      names.add(name);
+      stringsSize += name.length;
+
+      final byte[][] sectionKeys = new byte[section.getValue().size()][];
+      int i = 0;
+      for (String key : section.getValue().keySet()) {
+        sectionKeys[i++] = key.getBytes(UTF_8);
+      }
+      Arrays.sort(sectionKeys, Arrays::compareUnsigned); // i.e., by code point
+      final byte[][] sectionValues = new byte[sectionKeys.length][];
+      for (i = 0; i < sectionKeys.length; i++) {
+        sectionValues[i] = section.getValue().get(new String(sectionKeys[i], UTF_8)).getBytes(UTF_8);
+        stringsSize += sectionKeys[i].length + sectionValues[i].length;
+      }
+      keys.add(sectionKeys);
+      values.add(sectionValues);
+      entryCount += sectionKeys.length;
+    }
+
+    final int entriesOffset = HEADER_SIZE + sections.size() * SECTION_SIZE;
+    final ByteBuffer out = ByteBuffer.allocate(entriesOffset + entryCount * ENTRY_SIZE + stringsSize);
+    out.putInt(MAGIC).putInt(VERSION).putInt(sections.size());
+
+    int entryOffset = entriesOffset;
+    int stringOffset = entriesOffset + entryCount * ENTRY_SIZE;
+    for (int s = 0; s < names.size(); s++) {
+      final byte[] name = names.get(s);
+      final byte[][] sectionKeys = keys.get(s);
+      final byte[][] sectionValues = values.get(s);
+
+      final int sectionOffset = HEADER_SIZE + s * SECTION_SIZE;
+      out.putInt(sectionOffset, stringOffset).putInt(sectionOffset + 4, name.length)
+         .putInt(sectionOffset + 8, sectionKeys.length).putInt(sectionOffset + 12, entryOffset);
+      out.put(stringOffset, name);
+      stringOffset += name.length;
+
+      for (int i = 0; i < sectionKeys.length; i++, entryOffset += ENTRY_SIZE) {
+        out.putInt(entryOffset, stringOffset).putInt(entryOffset + 4, sectionKeys[i].length);
+        out.put(stringOffset, sectionKeys[i]);
+        stringOffset += sectionKeys[i].length;
+
+        out.putInt(entryOffset + 8, stringOffset).putInt(entryOffset + 12, sectionValues[i].length);
+        out.put(stringOffset, sectionValues[i]);
+        stringOffset += sectionValues[i].length;
+      }
+    }
+    return out.array();
+  }
+}
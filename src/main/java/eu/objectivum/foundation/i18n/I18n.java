@@ -2,9 +2,13 @@ package eu.objectivum.foundation.i18n;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -22,7 +26,8 @@ import java.util.Locale;
  * etc.</li>
  * </ul>
  * {@code I18n} instances can, for example, be set up/injected to represent user profile or request-specific
- * (i18n-related) configuration settings.
+ * (i18n-related) configuration settings, cheaply so as {@link I18nView views} of a shared, {@link SimpleI18n#freeze()
+ * frozen} {@link SimpleI18n}.
  *
  * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
  * @version 1.0, May 23, 2019
@@ -74,8 +79,66 @@ public interface I18n {
    */
   @NotNull String t(String key, Object... args);
 
+  /**
+   * Same as {@link #t(String, Object...)} but writes the translation into {@code out}; implementations are encouraged
+   * to do so without creating intermediate strings.
+   *
+   * @return {@code out}
+   * @throws UncheckedIOException if {@code out} fails to append the translation
+   */
+  default @NotNull <A extends Appendable> A t(@NotNull A out, String key, Object... args) {
+    try {
+      out.append(t(key, args));
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return out;
+  }
+
+  /**
+   * Same as {@link #t(String, Object...)} but writes the translation into {@code out}; implementations are encouraged
+   * to do so without creating intermediate strings.
+   *
+   * @return {@code out}
+   */
+  default @NotNull StringBuilder t(@NotNull StringBuilder out, String key, Object... args) {
+    return out.append(t(key, args));
+  }
+
   /**
    * @return never {@code null} (at worst, an empty string)
    */
   @NotNull String l(Instant instant);
+
+  /**
+   * Bulk version of {@link #l(Instant)}, giving implementations the chance to set things up only once.
+   *
+   * @return never {@code null}; {@code null} elements are localized as empty strings
+   */
+  default @NotNull String[] l(Instant[] instants) {
+    if (instants == null) {
+      return new String[0];
+    }
+    final String[] localized = new String[instants.length];
+    for (int i = 0; i < instants.length; i++) {
+      localized[i] = l(instants[i]);
+    }
+    return localized;
+  }
+
+  /**
+   * Bulk version of {@link #l(Instant)}, giving implementations the chance to set things up only once.
+   *
+   * @return never {@code null}; {@code null} elements are localized as empty strings
+   */
+  default @NotNull List<String> l(List<Instant> instants) {
+    if (instants == null) {
+      return new ArrayList<>(0);
+    }
+    final List<String> localized = new ArrayList<>(instants.size());
+    for (Instant instant : instants) {
+      localized.add(l(instant));
+    }
+    return localized;
+  }
 }
@@ -0,0 +1,216 @@
+package eu.objectivum.foundation.i18n;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Immutable, per-user or per-request {@link I18n} overriding only the {@link #getLocale() locale}, the {@link
+ * #getZoneId() time-zone} and the {@link #getDateTimeFormatter() date/time formatter} of a shared, {@link
+ * SimpleI18n#freeze() frozen} {@link SimpleI18n} (which holds the bundles, the suppliers and the caches); creating
+ * one costs a single small allocation.
+ * <p>
+ * The view of the current request can be made {@link #current() current} for the duration of a call, e.g., in a
+ * servlet filter:
+ * <pre>{@code
+ * i18n.view(request.getLocale()).run(() -> chain.doFilter(request, response));
+ * }</pre>
+ * and is restored afterwards, so that nothing leaks into the next task of a pooled (or virtual) thread. The current
+ * view is not inherited by threads (or tasks) started meanwhile; they should be {@link #run(Runnable) run with} it
+ * explicitly.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see SimpleI18n#view(Locale, ZoneId, DateTimeFormatter)
+ */
+public final class I18nView implements I18n {
+
+  private static final ThreadLocal<I18nView> CURRENT = new ThreadLocal<>();
+
+  private final SimpleI18n<?> i18n;
+
+  private final Locale locale;
+
+  private final ZoneId zoneId;
+
+  private final DateTimeFormatter dateTimeFormatter;
+
+  I18nView(@NotNull SimpleI18n<?> i18n, Locale locale, ZoneId zoneId, DateTimeFormatter dateTimeFormatter) {
+    this.i18n = i18n;
+    this.locale = locale;
+    this.zoneId = zoneId;
+    this.dateTimeFormatter = dateTimeFormatter;
+  }
+
+  /**
+   * @return the view {@link #run(Runnable) made current} on the calling thread or {@code null} if none
+   */
+  public static I18nView current() {return CURRENT.get();}
+
+  /**
+   * @return the {@link #current() current} view or {@code fallback} if none
+   */
+  public static I18n currentOr(I18n fallback) {
+    final I18nView current = CURRENT.get();
+    return current == null ? fallback : current;
+  }
+
+  /**
+   * Runs {@code task} with {@code this} view as the {@link #current() current} one, restoring the previous one after.
+   */
+  public void run(@NotNull Runnable task) {
+    final I18nView previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      task.run();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  /**
+   * Calls {@code task} with {@code this} view as the {@link #current() current} one, restoring the previous one after.
+   */
+  public <T> T call(@NotNull Callable<T> task) throws Exception {
+    final I18nView previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return task.call();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  private static void restore(I18nView previous) {
+    if (previous == null) {
+      CURRENT.remove(); // rather than keeping an entry around on long-lived threads
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  /**
+   * @return a view of the same {@link SimpleI18n} with the same settings but {@code locale}
+   */
+  @NotNull
+  public I18nView withLocale(Locale locale) {
+    return new I18nView(i18n, locale, zoneId, dateTimeFormatter);
+  }
+
+  @NotNull
+  public I18nView withZoneId(ZoneId zoneId) {
+    return new I18nView(i18n, locale, zoneId, dateTimeFormatter);
+  }
+
+  @NotNull
+  public I18nView withDateTimeFormatter(DateTimeFormatter dateTimeFormatter) {
+    return new I18nView(i18n, locale, zoneId, dateTimeFormatter);
+  }
+
+  @Override
+  public Locale getLocale() {return locale == null ? i18n.effectiveLocale() : locale;}
+
+  @Override
+  public Locale getDefaultLocale() {return i18n.getDefaultLocale();}
+
+  @Override
+  public ZoneId getZoneId() {return zoneId == null ? i18n.effectiveZoneId() : zoneId;}
+
+  @Override
+  public ZoneId getDefaultZoneId() {return i18n.getDefaultZoneId();}
+
+  @Override
+  public DateTimeFormatter getDateTimeFormatter() {
+    return dateTimeFormatter == null ? i18n.effectiveDateTimeFormatter() : dateTimeFormatter;
+  }
+
+  @Override
+  public DateTimeFormatter getDefaultDateTimeFormatter() {return i18n.getDefaultDateTimeFormatter();}
+
+  @NotNull
+  @Override
+  public String t(String key, Object... args) {
+    return i18n.translate(getLocale(), key, args);
+  }
+
+  /**
+   * @see SimpleI18n#t(MessageKey, Object...)
+   */
+  @NotNull
+  public String t(MessageKey key, Object... args) {
+    return i18n.translate(getLocale(), key, args);
+  }
+
+  @NotNull
+  @Override
+  public <A extends Appendable> A t(@NotNull A out, String key, Object... args) {
+    try {
+      i18n.translate(out, getLocale(), key, args);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return out;
+  }
+
+  @NotNull
+  @Override
+  public StringBuilder t(@NotNull StringBuilder out, String key, Object... args) {
+    try {
+      i18n.translate(out, getLocale(), key, args);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex); // not thrown by StringBuilder
+    }
+    return out;
+  }
+
+  @NotNull
+  @Override
+  public String l(Instant instant) {
+    return i18n.localize(instant, getDateTimeFormatter(), getLocale(), getZoneId());
+  }
+
+  @NotNull
+  @Override
+  public String[] l(Instant[] instants) {
+    if (instants == null) {
+      return new String[0];
+    }
+
+    final String[] localized = new String[instants.length];
+    final InstantFormatCache.CachedFormat format =
+      instants.length == 0 ? null : i18n.cachedInstantFormat(getDateTimeFormatter(), getLocale(), getZoneId());
+    for (int i = 0; i < instants.length; i++) {
+      localized[i] = instants[i] == null ? "" : format.format(instants[i]);
+    }
+    return localized;
+  }
+
+  @NotNull
+  @Override
+  public List<String> l(List<Instant> instants) {
+    if (instants == null) {
+      return new ArrayList<>(0);
+    }
+
+    final List<String> localized = new ArrayList<>(instants.size());
+    final InstantFormatCache.CachedFormat format =
+      instants.isEmpty() ? null : i18n.cachedInstantFormat(getDateTimeFormatter(), getLocale(), getZoneId());
+    for (Instant instant : instants) {
+      localized.add(instant == null ? "" : format.format(instant));
+    }
+    return localized;
+  }
+
+  @Override
+  public String toString() {
+    return "I18nView[locale=" + locale + ", zoneId=" + zoneId + ", dateTimeFormatter=" + dateTimeFormatter + "]";
+  }
+}
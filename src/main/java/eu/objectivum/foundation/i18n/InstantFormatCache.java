@@ -0,0 +1,135 @@
+package eu.objectivum.foundation.i18n;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches, per ({@link DateTimeFormatter formatter}, {@link Locale locale}, {@link ZoneId zone}), the derived formatter
+ * used to {@link I18n#l(Instant) localize} instants, together with the result of the last formatted second (in the
+ * spirit of <a href="https://github.com/eclipse/jetty.project/blob/jetty-9.4.x/jetty-util/src/main/java/org/eclipse/jetty/util/DateCache.java">
+ * Jetty's DateCache</a>).
+ * <p/>
+ * The formatted second is only reused for formatters whose output does not depend on fractions of a second (which
+ * is detected once, when the derived formatter gets created); instants falling in the same second then share the
+ * very same {@code String}.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see SimpleI18n#setInstantFormatCache(InstantFormatCache)
+ */
+public class InstantFormatCache {
+
+  /**
+   * Shared by default among all the {@link SimpleI18n} instances; formatters, locales and zones are immutable.
+   */
+  public static final InstantFormatCache DEFAULT = new InstantFormatCache();
+
+  public static final int MAX_SIZE_DEF = 256;
+
+  private final Map<Key, CachedFormat> formats = new ConcurrentHashMap<>();
+
+  private final int maxSize;
+
+  public InstantFormatCache() {
+    this(MAX_SIZE_DEF);
+  }
+
+  /**
+   * @param maxSize the cache is simply cleared when it grows beyond this size (e.g., when formatters are created on the
+   *                fly instead of being reused)
+   */
+  public InstantFormatCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  @NotNull
+  public String format(@NotNull Instant instant, @NotNull DateTimeFormatter formatter, @NotNull Locale locale,
+                       @NotNull ZoneId zoneId) {
+    return formatter(formatter, locale, zoneId).format(instant);
+  }
+
+  /**
+   * @return the derived (and cached) formatter to use for {@code formatter}, {@code locale} and {@code zoneId}; meant
+   *   to be reused when formatting several instants in a row
+   */
+  @NotNull
+  public CachedFormat formatter(@NotNull DateTimeFormatter formatter, @NotNull Locale locale, @NotNull ZoneId zoneId) {
+    final Key key = new Key(formatter, locale, zoneId);
+
+    CachedFormat format = formats.get(key);
+    if (format == null) {
+      if (formats.size() >= maxSize) {
+        formats.clear();
+      }
+      format = formats.computeIfAbsent(key, k -> new CachedFormat(k.formatter, k.locale, k.zoneId));
+    }
+    return format;
+  }
+
+  public void clear() {
+    formats.clear();
+  }
+
+  public int size() {
+    return formats.size();
+  }
+
+  private record Key(DateTimeFormatter formatter, Locale locale, ZoneId zoneId) {}
+
+  /**
+   * A derived formatter plus the last second it has formatted.
+   */
+  public static final class CachedFormat {
+
+    private final DateTimeFormatter formatter;
+
+    private final boolean secondResolution;
+
+    private volatile Tick last;
+
+    CachedFormat(DateTimeFormatter formatter, Locale locale, ZoneId zoneId) {
+      // Same outcome as formatter.withLocale(locale).format(instant.atZone(zoneId)), minus the ZonedDateTime: a
+      // formatter's own override zone (if any) still takes precedence
+      final DateTimeFormatter localized = formatter.withLocale(locale);
+      this.formatter = localized.getZone() == null ? localized.withZone(zoneId) : localized;
+
+      // If the first and the last nanosecond of a second are formatted the same, the whole second is
+      boolean secondResolution;
+      try {
+        final Instant probe = Instant.ofEpochSecond(1_000_000_000L);
+        secondResolution = this.formatter.format(probe).equals(this.formatter.format(probe.plusNanos(999_999_999)));
+      } catch (DateTimeException ex) {
+        secondResolution = false; // let the actual formatting complain
+      }
+      this.secondResolution = secondResolution;
+    }
+
+    @NotNull
+    public String format(@NotNull Instant instant) {
+      if (!secondResolution) {
+        return formatter.format(instant);
+      }
+
+      final long epochSecond = instant.getEpochSecond();
+      final Tick tick = last;
+      if (tick != null && tick.epochSecond == epochSecond) {
+        return tick.formatted;
+      }
+
+      final String formatted = formatter.format(instant);
+      last = new Tick(epochSecond, formatted);
+      return formatted;
+    }
+
+    public DateTimeFormatter getFormatter() {return formatter;}
+  }
+
+  private record Tick(long epochSecond, String formatted) {}
+}
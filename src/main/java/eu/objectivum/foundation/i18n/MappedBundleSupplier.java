@@ -0,0 +1,273 @@
+package eu.objectivum.foundation.i18n;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.ResourceBundle.Control.FORMAT_PROPERTIES;
+
+/**
+ * {@link SimpleI18n#setResourceBundleSupplier(BiFunction) Resource bundle supplier} reading the binary files written by
+ * the {@link BundleCompiler bundle compiler}: one file per locale, memory-mapped when first needed, whose values are
+ * only decoded (once) when first looked up. Loading a bundle thus costs next to nothing, and so does keeping it around
+ * on the heap.
+ * <p>
+ * A file holds, for every base name, the messages of the corresponding {@code .properties} file for its locale only;
+ * the bundles are chained to their parents like {@link ResourceBundle#getBundle(String, Locale)} does, except that
+ * there is no fallback to the default locale. The format (all integers big endian, all offsets absolute):
+ * <pre>
+ * header:   int magic ({@value #MAGIC}), int version ({@value #VERSION}), int section count
+ * sections: (int name offset, int name length, int entry count, int entries offset) per base name, sorted by name
+ * entries:  (int key offset, int key length, int value offset, int value length) per message, sorted by key
+ * strings:  UTF-8 bytes
+ * </pre>
+ * Keys are sorted by their UTF-8 bytes (i.e., by code point) and looked up by binary search, comparing them with the
+ * requested key in place.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+public class MappedBundleSupplier implements BiFunction<String, Locale, ResourceBundle> {
+
+  public static final int MAGIC = 0x4C31306E; // "L10n"
+
+  public static final int VERSION = 1;
+
+  public static final String FILE_PREFIX = "bundles";
+
+  public static final String FILE_SUFFIX = ".bin";
+
+  static final int HEADER_SIZE = 12;
+
+  static final int SECTION_SIZE = 16;
+
+  static final int ENTRY_SIZE = 16;
+
+  private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(FORMAT_PROPERTIES);
+
+  /**
+   * Marks (and caches) bundles for which no messages exist.
+   */
+  private static final ResourceBundle MISSING = new ListResourceBundle() {
+    @Override
+    protected Object[][] getContents() {return new Object[0][];}
+  };
+
+  private final Path directory;
+
+  private final Map<Locale, Optional<MappedFile>> files = new ConcurrentHashMap<>();
+
+  private final Map<BundleKey, ResourceBundle> bundles = new ConcurrentHashMap<>();
+
+  /**
+   * @param directory where the {@link BundleCompiler bundle compiler} has written its files
+   */
+  public MappedBundleSupplier(@NotNull Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * @return the name of the file holding the messages for {@code locale}, e.g., {@code bundles_de_AT.bin} or {@code
+   *   bundles.bin} for the {@link Locale#ROOT root locale}
+   */
+  public static String fileName(@NotNull Locale locale) {
+    final String suffix = locale.toString();
+    return FILE_PREFIX + (suffix.isEmpty() ? "" : "_" + suffix) + FILE_SUFFIX;
+  }
+
+  /**
+   * @return the bundle for {@code baseName} and {@code locale}, or {@code null} if there are no messages for any of the
+   *   candidate locales
+   */
+  @Override
+  public ResourceBundle apply(String baseName, Locale locale) {
+    if (baseName == null) {
+      return null;
+    }
+    final BundleKey key = new BundleKey(baseName, locale == null ? Locale.getDefault() : locale);
+    ResourceBundle bundle = bundles.get(key);
+    if (bundle == null) {
+      bundle = bundles.computeIfAbsent(key, this::build);
+    }
+    return bundle == MISSING ? null : bundle;
+  }
+
+  private ResourceBundle build(BundleKey key) {
+    final List<Locale> candidates = CONTROL.getCandidateLocales(key.baseName, key.locale);
+    ResourceBundle bundle = null;
+    for (int i = candidates.size() - 1; i >= 0; i--) { // from the root locale to the most specific one
+      final Optional<MappedFile> file = files.computeIfAbsent(candidates.get(i), this::map);
+      final Section section = file.map(f -> f.sections.get(key.baseName)).orElse(null);
+      if (section != null) {
+        bundle = new Bundle(section, bundle);
+      }
+    }
+    return bundle == null ? MISSING : bundle;
+  }
+
+  private Optional<MappedFile> map(Locale locale) {
+    final Path path = directory.resolve(fileName(locale));
+    if (!Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+    // the mapping remains valid after the channel gets closed (and after the file gets replaced by a new one)
+    try (FileChannel channel = FileChannel.open(path, READ)) {
+      return Optional.of(new MappedFile(path, channel.map(READ_ONLY, 0, channel.size())));
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Cannot map " + path, ex);
+    }
+  }
+
+  private record BundleKey(String baseName, Locale locale) {}
+
+  private static final class MappedFile {
+
+    final Map<String, Section> sections = new HashMap<>();
+
+    MappedFile(Path path, ByteBuffer buffer) {
+      if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+        throw new IllegalStateException(path + " is not a compiled bundle file (version " + VERSION + ")");
+      }
+      for (int i = 0, count = buffer.getInt(8); i < count; i++) {
+        final int offset = HEADER_SIZE + i * SECTION_SIZE;
+        final String baseName = decode(buffer, buffer.getInt(offset), buffer.getInt(offset + 4));
+        sections.put(baseName, new Section(buffer, buffer.getInt(offset + 8), buffer.getInt(offset + 12)));
+      }
+    }
+  }
+
+  /**
+   * The messages of one base name (and locale); only absolute (thread-safe) gets are performed on the buffer.
+   */
+  private static final class Section {
+
+    final ByteBuffer buffer;
+
+    final int entryCount;
+
+    final int entriesOffset;
+
+    final AtomicReferenceArray<String> values;
+
+    Section(ByteBuffer buffer, int entryCount, int entriesOffset) {
+      this.buffer = buffer;
+      this.entryCount = entryCount;
+      this.entriesOffset = entriesOffset;
+      this.values = new AtomicReferenceArray<>(entryCount);
+    }
+
+    String get(String key) {
+      final int index = indexOf(key);
+      if (index < 0) {
+        return null;
+      }
+      String value = values.get(index);
+      if (value == null) { // decoding twice in a race is harmless
+        final int entry = entriesOffset + index * ENTRY_SIZE;
+        values.lazySet(index, value = decode(buffer, buffer.getInt(entry + 8), buffer.getInt(entry + 12)));
+      }
+      return value;
+    }
+
+    int indexOf(String key) {
+      int low = 0;
+      int high = entryCount - 1;
+      while (low <= high) {
+        final int middle = (low + high) >>> 1;
+        final int entry = entriesOffset + middle * ENTRY_SIZE;
+        final int comparison = compare(buffer, buffer.getInt(entry), buffer.getInt(entry + 4), key);
+        if (comparison < 0) {
+          low = middle + 1;
+        } else if (comparison > 0) {
+          high = middle - 1;
+        } else {
+          return middle;
+        }
+      }
+      return -1;
+    }
+
+    Set<String> keys() {
+      final Set<String> keys = new HashSet<>(entryCount * 4 / 3 + 1);
+      for (int i = 0; i < entryCount; i++) {
+        final int entry = entriesOffset + i * ENTRY_SIZE;
+        keys.add(decode(buffer, buffer.getInt(entry), buffer.getInt(entry + 4)));
+      }
+      return keys;
+    }
+  }
+
+  private static final class Bundle extends ResourceBundle {
+
+    private final Section section;
+
+    Bundle(Section section, ResourceBundle parent) {
+      this.section = section;
+      setParent(parent);
+    }
+
+    @Override
+    protected Object handleGetObject(@NotNull String key) {
+      return section.get(key);
+    }
+
+    @Override
+    protected Set<String> handleKeySet() {
+      return section.keys();
+    }
+
+    @NotNull
+    @Override
+    public Enumeration<String> getKeys() {
+      final Set<String> keys = section.keys();
+      if (parent != null) {
+        keys.addAll(Collections.list(parent.getKeys()));
+      }
+      return Collections.enumeration(keys);
+    }
+  }
+
+  private static String decode(ByteBuffer buffer, int offset, int length) {
+    final byte[] bytes = new byte[length];
+    buffer.get(offset, bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  /**
+   * Compares, by code point, the UTF-8 encoded string at {@code offset} in {@code buffer} with {@code key}, without
+   * decoding the former.
+   */
+  static int compare(ByteBuffer buffer, int offset, int length, String key) {
+    final int end = offset + length;
+    int i = offset;
+    int j = 0;
+    while (i < end && j < key.length()) {
+      int codePoint = buffer.get(i++) & 0xFF;
+      if (codePoint >= 0x80) { // well-formed (compiled) UTF-8 is assumed
+        final int continuations = codePoint >= 0xF0 ? 3 : codePoint >= 0xE0 ? 2 : 1;
+        codePoint &= 0x3F >> continuations;
+        for (int k = 0; k < continuations; k++) {
+          codePoint = codePoint << 6 | buffer.get(i++) & 0x3F;
+        }
+      }
+      final int keyCodePoint = key.codePointAt(j);
+      if (codePoint != keyCodePoint) {
+        return Integer.compare(codePoint, keyCodePoint);
+      }
+      j += Character.charCount(keyCodePoint);
+    }
+    return i < end ? 1 : j < key.length() ? -1 : 0;
+  }
+}
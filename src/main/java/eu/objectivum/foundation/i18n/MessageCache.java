@@ -0,0 +1,181 @@
+package eu.objectivum.foundation.i18n;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import static java.util.Comparator.comparingLong;
+
+/**
+ * Concurrent, size-bounded cache of <em>compiled</em> messages (e.g., {@link MessageFormat} instances, {@link
+ * MessageTemplate templates}, etc.), keyed by (message key, {@link Locale locale}).
+ * <p/>
+ * Each entry also remembers the pattern it has been compiled from; if the message resolved for a key changes (e.g.,
+ * the underlying bundles are reloaded), the entry is silently recompiled.
+ *
+ * @param <F> the type of the compiled messages
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see MessageFormatCache
+ */
+public class MessageCache<F> {
+
+  /**
+   * Which entries to drop first when the cache grows past its {@link #getMaxSize() maximum size}.
+   */
+  public enum Eviction {
+    /** Least recently used entries go first. */
+    LRU,
+    /** Oldest (first compiled) entries go first. */
+    FIFO
+  }
+
+  public static final int MAX_SIZE_DEF = 1024;
+
+  /**
+   * When full, the cache is trimmed (in one go, by a single thread) down to this fraction of its maximum size, so that
+   * the cost of eviction is amortized over many misses.
+   */
+  private static final double TRIM_FACTOR = 0.9;
+
+  private final Map<Key, Entry<F>> entries;
+
+  private final int maxSize;
+
+  private final Eviction eviction;
+
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  public MessageCache() {
+    this(MAX_SIZE_DEF, Eviction.LRU);
+  }
+
+  public MessageCache(int maxSize, Eviction eviction) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("The maximum size of the cache must be positive");
+    }
+    this.maxSize = maxSize;
+    this.eviction = eviction == null ? Eviction.LRU : eviction;
+    this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 64));
+  }
+
+  /**
+   * @param message  the (already resolved) message pattern corresponding to {@code key} and {@code locale}
+   * @param compiler compiles {@code message} on cache misses; {@code null} results are not cached
+   * @return the cached or freshly compiled {@code message}; {@code null} if {@code compiler} returns {@code null}
+   */
+  public F get(@NotNull String key, Locale locale, @NotNull String message,
+               @NotNull BiFunction<String, Locale, ? extends F> compiler) {
+    final Key cacheKey = new Key(key, locale);
+
+    final Entry<F> entry = entries.get(cacheKey);
+    if (entry != null && entry.pattern.equals(message)) {
+      hits.increment();
+      if (eviction == Eviction.LRU) {
+        entry.lastAccess = System.nanoTime(); // no shared counter to contend on
+      }
+      return entry.compiled;
+    }
+
+    misses.increment();
+    final F compiled = compiler.apply(message, locale);
+    if (compiled != null) {
+      entries.put(cacheKey, new Entry<>(message, compiled, System.nanoTime()));
+      if (entries.size() > maxSize) {
+        evict();
+      }
+    }
+    return compiled;
+  }
+
+  private void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      return; // some other thread is already making room
+    }
+    try {
+      final int excess = entries.size() - (int) (maxSize * TRIM_FACTOR);
+      if (excess <= 0) {
+        return;
+      }
+
+      // Snapshot the stamps first: sorting on values other threads keep updating breaks the comparator contract
+      final List<Candidate> candidates = new ArrayList<>(entries.size());
+      entries.forEach((key, entry) -> candidates.add(
+        new Candidate(key, entry, eviction == Eviction.LRU ? entry.lastAccess : entry.created)));
+      candidates.sort(comparingLong(Candidate::stamp));
+
+      for (int i = 0, n = Math.min(excess, candidates.size()); i < n; i++) {
+        final Candidate candidate = candidates.get(i);
+        if (entries.remove(candidate.key(), candidate.entry())) {
+          evictions.increment();
+        }
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public Eviction getEviction() {
+    return eviction;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  private record Key(String key, Locale locale) {}
+
+  private record Candidate(Key key, Entry<?> entry, long stamp) {}
+
+  private static final class Entry<F> {
+
+    final String pattern;
+
+    final F compiled;
+
+    final long created;
+
+    volatile long lastAccess;
+
+    Entry(String pattern, F compiled, long created) {
+      this.pattern = pattern;
+      this.compiled = compiled;
+      this.created = created;
+      this.lastAccess = created;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package eu.objectivum.foundation.i18n;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.function.BiFunction;
+
+/**
+ * Concurrent, size-bounded cache of compiled {@link MessageFormat} instances.
+ * <p/>
+ * {@code MessageFormat} is not thread-safe, so cached instances are never handed out; they are only used through
+ * {@link #format(String, Locale, String, Object[], BiFunction) format()}, which serializes access to each instance.
+ * Since formatting is cheap compared to parsing the pattern, contention is only noticeable when many threads format
+ * the very same (key, locale) message at the very same time.
+ * <p/>
+ * The {@link #DEFAULT shared} cache is keyed by (pattern, locale) rather than by (key, locale), so that instances
+ * resolving the same key to different messages (e.g., from different bundles) do not keep recompiling each other's
+ * entries.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see SimpleI18n#setMessageFormatCache(MessageFormatCache)
+ */
+public class MessageFormatCache extends MessageCache<MessageFormat> {
+
+  /**
+   * Shared by default among all the {@link SimpleI18n} instances that use the default {@link
+   * SimpleI18n#setMessageFormatSupplier(BiFunction) message format supplier}; bounded like any other cache.
+   */
+  public static final MessageFormatCache DEFAULT = new MessageFormatCache(MAX_SIZE_DEF, Eviction.LRU, true);
+
+  private final boolean keyedByPattern;
+
+  public MessageFormatCache() {
+    this(MAX_SIZE_DEF, Eviction.LRU);
+  }
+
+  public MessageFormatCache(int maxSize, Eviction eviction) {
+    this(maxSize, eviction, false);
+  }
+
+  private MessageFormatCache(int maxSize, Eviction eviction, boolean keyedByPattern) {
+    super(maxSize, eviction);
+    this.keyedByPattern = keyedByPattern;
+  }
+
+  /**
+   * @param message  the (already resolved) message pattern corresponding to {@code key} and {@code locale}
+   * @param supplier compiles {@code message} into a {@link MessageFormat} on cache misses
+   * @return {@code message} formatted with {@code args} or {@code message} itself if {@code supplier} does not provide
+   *   a format
+   */
+  @NotNull
+  public String format(@NotNull String key, Locale locale, @NotNull String message, Object[] args,
+                       @NotNull BiFunction<String, Locale, MessageFormat> supplier) {
+    final MessageFormat format = get(keyedByPattern ? message : key, locale, message, supplier);
+    if (format == null) {
+      return message;
+    }
+    synchronized (format) {
+      return format.format(args);
+    }
+  }
+}
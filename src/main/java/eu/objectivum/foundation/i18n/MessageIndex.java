@@ -0,0 +1,108 @@
+package eu.objectivum.foundation.i18n;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * Flat, per-{@link Locale locale} index of all the messages found in a sequence of resource bundles.
+ * <p/>
+ * For each locale, the bundles are merged <em>once</em> into a single immutable map, honoring the same precedence
+ * {@link SimpleI18n#message(String, Locale)} applies when walking the bundles: the first bundle (base name) that
+ * resolves a key, including through its parent (fallback) bundles, wins. The per-locale indices are kept in an
+ * immutable snapshot which is replaced atomically whenever a new locale gets indexed, so that lookups (hits or misses
+ * alike) never lock, throw or allocate.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see SimpleI18n#setIndexed(boolean)
+ */
+public class MessageIndex {
+
+  /**
+   * @param generation incremented by every {@link #clear()}, so that merges started before it do not get published
+   */
+  private record Snapshot(long generation, Map<Locale, Map<String, String>> messages) {}
+
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(0, Map.of()));
+
+  /**
+   * @return the (immutable) messages indexed for {@code locale} or {@code null} if {@code locale} has not been
+   *   {@link #index(Locale, Iterable, BiFunction) indexed} yet
+   */
+  public Map<String, String> messages(Locale locale) {
+    return locale == null ? null : snapshot.get().messages().get(locale);
+  }
+
+  /**
+   * Drops all the indexed messages; they are going to be re-indexed, one locale at a time, on first access. Merges
+   * in progress (which may have read the bundles as they were before) are not published.
+   */
+  public void clear() {
+    snapshot.updateAndGet(current -> new Snapshot(current.generation() + 1, Map.of()));
+  }
+
+  /**
+   * Merges the bundles corresponding to {@code baseNames} and {@code locale} and publishes the result.
+   *
+   * @param baseNames      the (fully qualified) base names of the bundles to merge, in order of precedence
+   * @param bundleSupplier provides the bundle for a given base name and locale; may return {@code null} or throw a
+   *                       {@link MissingResourceException} if no such bundle exists
+   * @return the (immutable) messages indexed for {@code locale}; if the index has been {@link #clear() cleared}
+   *   meanwhile, the messages are merged for the caller only
+   */
+  @NotNull
+  public Map<String, String> index(@NotNull Locale locale, @NotNull Iterable<String> baseNames,
+                                   @NotNull BiFunction<String, Locale, ResourceBundle> bundleSupplier) {
+    final long generation = snapshot.get().generation();
+    final Map<String, String> merged = new HashMap<>();
+    for (String baseName : baseNames) {
+      if (baseName == null) {
+        continue;
+      }
+
+      final ResourceBundle resourceBundle;
+      try {
+        resourceBundle = bundleSupplier.apply(baseName, locale);
+      } catch (MissingResourceException ex) {
+        continue; // on to the next bundle (base name)
+      }
+      if (resourceBundle == null) {
+        continue;
+      }
+
+      for (String key : resourceBundle.keySet()) { // includes the keys of the parent bundles
+        if (!merged.containsKey(key) && resourceBundle.getObject(key) instanceof String message) {
+          merged.put(key, message);
+        }
+      }
+    }
+
+    final Map<String, String> messages = Map.copyOf(merged);
+
+    // Publish a new snapshot; concurrently indexed locales are retained, simultaneous work on the same locale is cheap
+    // to redo and leads to the same result anyway
+    Snapshot current, next;
+    do {
+      current = snapshot.get();
+      if (current.generation() != generation) {
+        return messages; // possibly merged from stale bundles
+      }
+      final Map<String, String> existing = current.messages().get(locale);
+      if (existing != null) {
+        return existing;
+      }
+      final Map<Locale, Map<String, String>> copy = new HashMap<>(current.messages());
+      copy.put(locale, messages);
+      next = new Snapshot(generation, Map.copyOf(copy));
+    } while (!snapshot.compareAndSet(current, next));
+
+    return messages;
+  }
+}
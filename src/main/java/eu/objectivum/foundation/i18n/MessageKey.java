@@ -0,0 +1,88 @@
+package eu.objectivum.foundation.i18n;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Message key interned, when {@link #of(String) registered}, into a dense integer {@link #slot() slot}, so that {@link
+ * SimpleI18n#t(MessageKey, Object...) translating} it boils down to loading an array element instead of hashing (and
+ * resolving) a string on every call. Meant to be declared as constants, e.g.:
+ * <pre>{@code
+ * public static final MessageKey GREETING = MessageKey.of("greeting");
+ * }</pre>
+ * Its {@link #toString() string representation} is the key itself, so it can be passed to any {@link
+ * I18n#t(Object, Object...) I18n}.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see SimpleI18n#unresolvedMessageKeys(java.util.Collection)
+ */
+public final class MessageKey {
+
+  private static final Map<String, MessageKey> KEYS = new ConcurrentHashMap<>();
+
+  private static MessageKey[] slots = new MessageKey[64]; // guarded by KEYS
+
+  private static volatile int count;
+
+  private final String key;
+
+  private final int slot;
+
+  private MessageKey(String key, int slot) {
+    this.key = key;
+    this.slot = slot;
+  }
+
+  /**
+   * @return the key registered for {@code key}, registering it first if needed (the same instance for the same key)
+   */
+  @NotNull
+  public static MessageKey of(@NotNull String key) {
+    final MessageKey messageKey = KEYS.get(key);
+    return messageKey == null ? register(key) : messageKey;
+  }
+
+  private static MessageKey register(String key) {
+    synchronized (KEYS) {
+      MessageKey messageKey = KEYS.get(key);
+      if (messageKey == null) {
+        final int slot = count;
+        if (slot == slots.length) {
+          slots = Arrays.copyOf(slots, slot * 2);
+        }
+        slots[slot] = messageKey = new MessageKey(key, slot);
+        KEYS.put(key, messageKey);
+        count = slot + 1;
+      }
+      return messageKey;
+    }
+  }
+
+  /**
+   * @return the number of keys registered so far, i.e., one more than the highest slot
+   */
+  public static int count() {return count;}
+
+  /**
+   * @return the keys registered so far, indexed by slot
+   */
+  @NotNull
+  public static List<MessageKey> registered() {
+    synchronized (KEYS) {
+      return List.of(Arrays.copyOf(slots, count));
+    }
+  }
+
+  @NotNull
+  public String key() {return key;}
+
+  public int slot() {return slot;}
+
+  @Override
+  public String toString() {return key;}
+}
@@ -0,0 +1,34 @@
+package eu.objectivum.foundation.i18n;
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event describing a {@link SimpleI18n#message(String, java.util.Locale) message lookup} in the
+ * configured bundles; only slow ones (e.g., those loading bundles) are recorded by default.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@Name("eu.objectivum.foundation.MessageLookup")
+@Label("Message Lookup")
+@Category({"Objectivum Foundation", "I18n"})
+@Description("A message looked up in the resource bundles by SimpleI18n")
+@Threshold("1 ms")
+@StackTrace(false)
+final class MessageLookupEvent extends Event {
+
+  @Label("Key")
+  String key;
+
+  @Label("Locale")
+  String locale;
+
+  @Label("Bundle Index")
+  @Description("Position, among the configured base names, of the bundle the message was found in; -1 if missed or "
+               + "found in the flat message index")
+  int bundleIndex;
+
+  @Label("Miss")
+  @Description("The key was not found in any bundle")
+  boolean miss;
+}
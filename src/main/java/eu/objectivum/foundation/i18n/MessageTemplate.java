@@ -0,0 +1,533 @@
+package eu.objectivum.foundation.i18n;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.*;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import static java.util.Locale.Category.FORMAT;
+
+/**
+ * A message pattern (in {@link MessageFormat} syntax) compiled, once, into an immutable, thread-safe <em>program</em>
+ * that writes directly into a caller-provided {@link Appendable} or {@link StringBuilder}.
+ * <p/>
+ * Formatting produces the same output as {@code new MessageFormat(pattern, locale).format(args)}, including argument
+ * indices, {@code number}, {@code date}, {@code time} and {@code choice} element types (with their styles), quoting
+ * rules and the handling of missing or {@code null} arguments. Unlike {@code MessageFormat}, it does not allocate
+ * intermediate buffers or strings for literal text, {@code String} arguments, integral {@code Number} arguments
+ * (plain or {@code number}-styled) and {@code choice} elements. Other arguments are delegated to the JDK's {@link
+ * Format} implementations (which are not thread-safe and are therefore used one thread at a time).
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see MessageFormat
+ * @see SimpleI18n#setMessageTemplateCache(MessageCache)
+ */
+public final class MessageTemplate {
+
+  private static final String[] TYPE_KEYWORDS = {"", "number", "date", "time", "choice"};
+
+  private static final String[] NUMBER_MODIFIER_KEYWORDS = {"", "currency", "percent", "integer"};
+
+  private static final String[] DATE_TIME_MODIFIER_KEYWORDS = {"", "short", "medium", "long", "full"};
+
+  private static final int[] DATE_TIME_MODIFIERS =
+    {DateFormat.DEFAULT, DateFormat.SHORT, DateFormat.MEDIUM, DateFormat.LONG, DateFormat.FULL};
+
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private final String pattern;
+
+  private final Locale locale;
+
+  private final Part[] parts;
+
+  private MessageTemplate(String pattern, Locale locale, Part[] parts) {
+    this.pattern = pattern;
+    this.locale = locale;
+    this.parts = parts;
+  }
+
+  /**
+   * @param locale if {@code null}, the default {@link Locale.Category#FORMAT FORMAT} locale is used
+   * @throws IllegalArgumentException if {@code pattern} is invalid (the same way {@link MessageFormat} would)
+   */
+  @NotNull
+  public static MessageTemplate compile(@NotNull String pattern, Locale locale) {
+    return new Compiler(pattern, locale == null ? Locale.getDefault(FORMAT) : locale).compile();
+  }
+
+  public String getPattern() {return pattern;}
+
+  public Locale getLocale() {return locale;}
+
+  @NotNull
+  public <A extends Appendable> A formatTo(@NotNull A out, Object... args) throws IOException {
+    for (Part part : parts) {
+      part.appendTo(out, args);
+    }
+    return out;
+  }
+
+  @NotNull
+  public StringBuilder formatTo(@NotNull StringBuilder out, Object... args) {
+    try {
+      formatTo((Appendable) out, args);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex); // not thrown by StringBuilder
+    }
+    return out;
+  }
+
+  @NotNull
+  public String format(Object... args) {
+    return formatTo(new StringBuilder(pattern.length() + 16), args).toString();
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+
+  // Program
+
+  private abstract static class Part {
+
+    abstract void appendTo(Appendable out, Object[] args) throws IOException;
+  }
+
+  private static final class Literal extends Part {
+
+    final String text;
+
+    Literal(String text) {this.text = text;}
+
+    @Override
+    void appendTo(Appendable out, Object[] args) throws IOException {
+      out.append(text);
+    }
+  }
+
+  private abstract static class Argument extends Part {
+
+    final int index;
+
+    Argument(int index) {this.index = index;}
+
+    @Override
+    final void appendTo(Appendable out, Object[] args) throws IOException {
+      if (args == null || index >= args.length) {
+        out.append('{');
+        appendLong(out, index, Digits.ASCII);
+        out.append('}');
+        return;
+      }
+
+      final Object arg = args[index];
+      if (arg == null) {
+        out.append("null");
+      } else {
+        appendArgument(out, arg, args);
+      }
+    }
+
+    abstract void appendArgument(Appendable out, Object arg, Object[] args) throws IOException;
+  }
+
+  /**
+   * {@code {index}}: numbers and dates are formatted using the locale's defaults, everything else via {@code
+   * toString()}.
+   */
+  private static final class SimpleArgument extends Argument {
+
+    final Locale locale;
+
+    final NumberFormat numberFormat;
+
+    final Digits digits;
+
+    private volatile DateFormat dateFormat;
+
+    SimpleArgument(int index, Locale locale) {
+      super(index);
+      this.locale = locale;
+      this.numberFormat = NumberFormat.getInstance(locale);
+      this.digits = Digits.of(numberFormat);
+    }
+
+    @Override
+    void appendArgument(Appendable out, Object arg, Object[] args) throws IOException {
+      if (arg instanceof String string) {
+        out.append(string);
+      } else if (arg instanceof Number number) {
+        if (digits != null && isIntegral(number)) {
+          appendLong(out, number.longValue(), digits);
+        } else {
+          appendFormatted(out, numberFormat, number);
+        }
+      } else if (arg instanceof Date date) {
+        DateFormat format = dateFormat;
+        if (format == null) {
+          dateFormat = format = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+        }
+        appendFormatted(out, format, date);
+      } else {
+        final String string = arg.toString();
+        out.append(string == null ? "null" : string);
+      }
+    }
+  }
+
+  /**
+   * {@code {index,number[,style]}}, {@code {index,date[,style]}} or {@code {index,time[,style]}}.
+   */
+  private static final class FormattedArgument extends Argument {
+
+    final Format format;
+
+    final Digits digits;
+
+    FormattedArgument(int index, Format format) {
+      super(index);
+      this.format = format;
+      this.digits = Digits.of(format);
+    }
+
+    @Override
+    void appendArgument(Appendable out, Object arg, Object[] args) throws IOException {
+      if (digits != null && arg instanceof Number number && isIntegral(number)) {
+        appendLong(out, number.longValue(), digits);
+      } else {
+        appendFormatted(out, format, arg);
+      }
+    }
+  }
+
+  /**
+   * {@code {index,choice,style}}: choices containing format elements are themselves compiled to templates.
+   */
+  private static final class ChoiceArgument extends Argument {
+
+    final double[] limits;
+
+    final Object[] choices; // String, MessageTemplate or, for invalid nested patterns, IllegalArgumentException
+
+    ChoiceArgument(int index, ChoiceFormat format, Locale locale) {
+      super(index);
+      this.limits = format.getLimits();
+
+      final Object[] formats = format.getFormats();
+      this.choices = new Object[formats.length];
+      for (int i = 0; i < formats.length; i++) {
+        final String choice = (String) formats[i];
+        if (choice.indexOf('{') < 0) {
+          choices[i] = choice;
+        } else {
+          try {
+            choices[i] = compile(choice, locale);
+          } catch (IllegalArgumentException ex) {
+            choices[i] = ex; // MessageFormat only complains when (and if) the choice gets selected
+          }
+        }
+      }
+    }
+
+    @Override
+    void appendArgument(Appendable out, Object arg, Object[] args) throws IOException {
+      if (!(arg instanceof Number number)) {
+        throw new IllegalArgumentException("Cannot format given Object as a Number");
+      }
+      if (choices.length == 0) {
+        return;
+      }
+
+      // Same selection as ChoiceFormat.format(double)
+      final double value = number.doubleValue();
+      int i = 0;
+      while (i < limits.length && value >= limits[i]) {
+        i++;
+      }
+      final Object choice = choices[Math.max(i - 1, 0)];
+
+      if (choice instanceof MessageTemplate template) {
+        template.formatTo(out, args);
+      } else if (choice instanceof IllegalArgumentException ex) {
+        throw new IllegalArgumentException(ex.getMessage(), ex);
+      } else {
+        out.append((String) choice);
+      }
+    }
+  }
+
+  // Number rendering
+
+  /**
+   * The bits of a {@link DecimalFormat} needed to render integral values without going through the format itself.
+   */
+  private record Digits(char zero, char minus, char groupingSeparator, int groupingSize) {
+
+    static final Digits ASCII = new Digits('0', '-', ',', 0);
+
+    /**
+     * @return {@code null} if integral values cannot be rendered by simply writing (possibly grouped) digits
+     */
+    static Digits of(Format format) {
+      if (!(format instanceof DecimalFormat decimalFormat)) {
+        return null;
+      }
+
+      final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+      if (decimalFormat.getMultiplier() != 1 ||
+          !decimalFormat.getPositivePrefix().isEmpty() || !decimalFormat.getPositiveSuffix().isEmpty() ||
+          !decimalFormat.getNegativePrefix().equals(String.valueOf(symbols.getMinusSign())) ||
+          !decimalFormat.getNegativeSuffix().isEmpty() ||
+          decimalFormat.getMinimumIntegerDigits() != 1 || decimalFormat.getMaximumIntegerDigits() < 19 ||
+          decimalFormat.getMinimumFractionDigits() != 0 || decimalFormat.isDecimalSeparatorAlwaysShown()) {
+        return null;
+      }
+
+      return new Digits(symbols.getZeroDigit(), symbols.getMinusSign(), symbols.getGroupingSeparator(),
+                        decimalFormat.isGroupingUsed() ? decimalFormat.getGroupingSize() : 0);
+    }
+  }
+
+  private static boolean isIntegral(Number number) {
+    return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+  }
+
+  /**
+   * Writes {@code value} digit by digit, most significant first, without any intermediate buffer.
+   */
+  private static void appendLong(Appendable out, long value, Digits digits) throws IOException {
+    if (value < 0) {
+      out.append(digits.minus);
+    } else {
+      value = -value; // work with negative values so that Long.MIN_VALUE needs no special treatment
+    }
+
+    int length = 1;
+    while (length < POWERS_OF_TEN.length && value <= -POWERS_OF_TEN[length]) {
+      length++;
+    }
+
+    for (int position = length; position > 0; position--) {
+      final long power = POWERS_OF_TEN[position - 1];
+      out.append((char) (digits.zero - value / power));
+      value %= power;
+      if (digits.groupingSize > 0 && position > 1 && (position - 1) % digits.groupingSize == 0) {
+        out.append(digits.groupingSeparator);
+      }
+    }
+  }
+
+  private static void appendFormatted(Appendable out, Format format, Object arg) throws IOException {
+    final String formatted;
+    synchronized (format) {
+      formatted = format.format(arg);
+    }
+    out.append(formatted);
+  }
+
+  // Compilation
+
+  /**
+   * Parses patterns exactly like {@link MessageFormat#applyPattern(String)} does.
+   */
+  private static final class Compiler {
+
+    private static final int SEG_RAW = 0;
+
+    private static final int SEG_INDEX = 1;
+
+    private static final int SEG_TYPE = 2;
+
+    private static final int SEG_MODIFIER = 3;
+
+    private final String pattern;
+
+    private final Locale locale;
+
+    private final List<Part> parts = new ArrayList<>();
+
+    Compiler(String pattern, Locale locale) {
+      this.pattern = pattern;
+      this.locale = locale;
+    }
+
+    MessageTemplate compile() {
+      final StringBuilder[] segments = new StringBuilder[4];
+      segments[SEG_RAW] = new StringBuilder();
+
+      int part = SEG_RAW;
+      boolean inQuote = false;
+      int braceStack = 0;
+
+      for (int i = 0; i < pattern.length(); ++i) {
+        final char ch = pattern.charAt(i);
+        if (part == SEG_RAW) {
+          if (ch == '\'') {
+            if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+              segments[part].append(ch); // handle doubles
+              ++i;
+            } else {
+              inQuote = !inQuote;
+            }
+          } else if (ch == '{' && !inQuote) {
+            part = SEG_INDEX;
+            if (segments[SEG_INDEX] == null) {
+              segments[SEG_INDEX] = new StringBuilder();
+            }
+          } else {
+            segments[part].append(ch);
+          }
+        } else {
+          if (inQuote) { // just copy quotes in parts
+            segments[part].append(ch);
+            if (ch == '\'') {
+              inQuote = false;
+            }
+          } else {
+            switch (ch) {
+            case ',' -> {
+              if (part < SEG_MODIFIER) {
+                if (segments[++part] == null) {
+                  segments[part] = new StringBuilder();
+                }
+              } else {
+                segments[part].append(ch);
+              }
+            }
+            case '{' -> {
+              ++braceStack;
+              segments[part].append(ch);
+            }
+            case '}' -> {
+              if (braceStack == 0) {
+                part = SEG_RAW;
+                addArgument(segments);
+              } else {
+                --braceStack;
+                segments[part].append(ch);
+              }
+            }
+            case ' ' -> {
+              // Skip any leading space chars for SEG_TYPE
+              if (part != SEG_TYPE || segments[SEG_TYPE].length() > 0) {
+                segments[part].append(ch);
+              }
+            }
+            case '\'' -> {
+              inQuote = true;
+              segments[part].append(ch);
+            }
+            default -> segments[part].append(ch);
+            }
+          }
+        }
+      }
+      if (braceStack == 0 && part != SEG_RAW) {
+        throw new IllegalArgumentException("Unmatched braces in the pattern.");
+      }
+      addLiteral(segments[SEG_RAW]);
+
+      return new MessageTemplate(pattern, locale, parts.toArray(new Part[0]));
+    }
+
+    private void addLiteral(StringBuilder raw) {
+      if (raw.length() > 0) {
+        parts.add(new Literal(raw.toString()));
+        raw.setLength(0);
+      }
+    }
+
+    private void addArgument(StringBuilder[] segments) {
+      addLiteral(segments[SEG_RAW]);
+
+      final int index;
+      try {
+        index = Integer.parseInt(segments[SEG_INDEX].toString());
+      } catch (NumberFormatException ex) {
+        throw new IllegalArgumentException("can't parse argument number: " + segments[SEG_INDEX], ex);
+      }
+      if (index < 0) {
+        throw new IllegalArgumentException("negative argument number: " + index);
+      }
+
+      final String type = segments[SEG_TYPE] == null ? "" : segments[SEG_TYPE].toString();
+      final String style = segments[SEG_MODIFIER] == null ? "" : segments[SEG_MODIFIER].toString();
+
+      switch (findKeyword(type, TYPE_KEYWORDS)) {
+      case 0 -> parts.add(new SimpleArgument(index, locale));
+      case 1 -> parts.add(new FormattedArgument(index, numberFormat(style)));
+      case 2, 3 -> parts.add(new FormattedArgument(index, dateTimeFormat(type, style)));
+      case 4 -> {
+        final ChoiceFormat choiceFormat;
+        try {
+          choiceFormat = new ChoiceFormat(style);
+        } catch (Exception ex) {
+          throw new IllegalArgumentException("Choice Pattern incorrect: " + style, ex);
+        }
+        parts.add(new ChoiceArgument(index, choiceFormat, locale));
+      }
+      default -> throw new IllegalArgumentException("unknown format type: " + type);
+      }
+
+      for (int i = SEG_INDEX; i < segments.length; i++) {
+        if (segments[i] != null) {
+          segments[i].setLength(0);
+        }
+      }
+    }
+
+    private Format numberFormat(String style) {
+      return switch (findKeyword(style, NUMBER_MODIFIER_KEYWORDS)) {
+        case 0 -> NumberFormat.getInstance(locale);
+        case 1 -> NumberFormat.getCurrencyInstance(locale);
+        case 2 -> NumberFormat.getPercentInstance(locale);
+        case 3 -> NumberFormat.getIntegerInstance(locale);
+        default -> new DecimalFormat(style, DecimalFormatSymbols.getInstance(locale));
+      };
+    }
+
+    private Format dateTimeFormat(String type, String style) {
+      final boolean date = findKeyword(type, TYPE_KEYWORDS) == 2;
+      final int modifier = findKeyword(style, DATE_TIME_MODIFIER_KEYWORDS);
+      if (modifier >= 0 && modifier < DATE_TIME_MODIFIER_KEYWORDS.length) {
+        return date
+          ? DateFormat.getDateInstance(DATE_TIME_MODIFIERS[modifier], locale)
+          : DateFormat.getTimeInstance(DATE_TIME_MODIFIERS[modifier], locale);
+      }
+      return new SimpleDateFormat(style, locale);
+    }
+
+    private static int findKeyword(String string, String[] keywords) {
+      for (int i = 0; i < keywords.length; ++i) {
+        if (string.equals(keywords[i])) {
+          return i;
+        }
+      }
+
+      final String normalized = string.trim().toLowerCase(Locale.ROOT);
+      if (!normalized.equals(string)) {
+        for (int i = 0; i < keywords.length; ++i) {
+          if (normalized.equals(keywords[i])) {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,344 @@
+package eu.objectivum.foundation.i18n;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+import static java.util.ResourceBundle.Control.FORMAT_PROPERTIES;
+
+/**
+ * {@link SimpleI18n#setResourceBundleSupplier(BiFunction) Resource bundle supplier} loading {@code .properties} files
+ * from the file system (by default, relative to the working directory, so that the {@link
+ * SimpleI18n#L10N_BASEDIR_KEY l10n.basedir} bundle prefix points into it) and reloading them when they change, i.e.,
+ * without restarting the application to fix a translation.
+ * <p>
+ * The directories of the loaded files are watched by a {@link WatchService} on a dedicated daemon thread which, when
+ * files change, parses them again and rebuilds only the bundles (base name and locale) whose parent chains include
+ * them. Every bundle is immutable and published by replacing a single map entry, so readers (on the {@link
+ * SimpleI18n#t(String, Object...) t()} path) never lock and never see a bundle half-reloaded. Candidate locales and
+ * parent chains are determined like {@link ResourceBundle#getBundle(String, Locale)} does, except that there is no
+ * fallback to the default locale.
+ * <p>
+ * {@link #addListener(Runnable) Listeners}, held weakly, are notified after each reload; a {@link SimpleI18n} using
+ * this supplier clears its {@link SimpleI18n#setIndexed(boolean) message index} then, for as long as it is in use.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@Slf4j
+public class ReloadableBundleSupplier implements BiFunction<String, Locale, ResourceBundle>, AutoCloseable {
+
+  /**
+   * How long to wait, after a change, for related changes (editors often write a file in several steps).
+   */
+  public static final long DEBOUNCE_MILLIS_DEF = 200;
+
+  private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(FORMAT_PROPERTIES);
+
+  /**
+   * Marks (and caches) bundles for which no file exists.
+   */
+  private static final ResourceBundle MISSING = new Bundle(Map.of(), null);
+
+  private final Path root;
+
+  /**
+   * Parsed files by (normalized, absolute) path; {@code null} values are not allowed, missing files map to an empty
+   * {@code Optional}.
+   */
+  private final Map<Path, Optional<Map<String, String>>> files = new ConcurrentHashMap<>();
+
+  private final Map<BundleKey, ResourceBundle> bundles = new ConcurrentHashMap<>();
+
+  /**
+   * Files each bundle has been built from (including the missing candidates, which might get created).
+   */
+  private final Map<BundleKey, List<Path>> chains = new ConcurrentHashMap<>();
+
+  private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Directories of candidate files that do not exist (yet); their nearest existing ancestors are watched instead.
+   */
+  private final Set<Path> missingDirectories = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Incremented by every {@link #reload(Set) reload}, so that bundles built concurrently from stale files do not get
+   * published.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Held weakly, so that a supplier shared by many (e.g., per-user) {@link SimpleI18n} instances does not retain them.
+   */
+  private final List<WeakReference<Runnable>> listeners = new CopyOnWriteArrayList<>();
+
+  private final WatchService watchService;
+
+  private final Thread watcher;
+
+  private volatile boolean closed;
+
+  /**
+   * Resolves base names against the working directory.
+   */
+  public ReloadableBundleSupplier() throws IOException {
+    this(Path.of(""));
+  }
+
+  /**
+   * @param root the directory relative base names are resolved against
+   */
+  public ReloadableBundleSupplier(@NotNull Path root) throws IOException {
+    this.root = root.toAbsolutePath().normalize();
+    this.watchService = this.root.getFileSystem().newWatchService();
+    this.watcher = new Thread(this::watch, "l10n-watcher");
+    this.watcher.setDaemon(true);
+    this.watcher.start();
+  }
+
+  /**
+   * @return the bundle for {@code baseName} (a path, without the {@code .properties} extension) and {@code locale}, or
+   *   {@code null} if no file exists for any of the candidate locales
+   */
+  @Override
+  public ResourceBundle apply(String baseName, Locale locale) {
+    if (baseName == null) {
+      return null;
+    }
+    final BundleKey key = new BundleKey(baseName, locale == null ? Locale.getDefault() : locale);
+    ResourceBundle bundle = bundles.get(key);
+    if (bundle == null) {
+      bundle = bundles.computeIfAbsent(key, this::build);
+    }
+    return bundle == MISSING ? null : bundle;
+  }
+
+  /**
+   * Builds the bundle from the most generic candidate (the base file) down to the most specific one, again if files
+   * got reloaded meanwhile: a reload that ran before the chain got recorded has not rebuilt the bundle.
+   */
+  private ResourceBundle build(BundleKey key) {
+    for (; ; ) {
+      final long generation = this.generation.get();
+      final ResourceBundle bundle = buildOnce(key);
+      if (this.generation.get() == generation) {
+        return bundle; // any later reload sees the chain (and rebuilds the bundle if needed)
+      }
+    }
+  }
+
+  private ResourceBundle buildOnce(BundleKey key) {
+    final List<Locale> candidates = CONTROL.getCandidateLocales(key.baseName, key.locale);
+    final List<Path> chain = new ArrayList<>(candidates.size());
+    Bundle bundle = null;
+    for (int i = candidates.size() - 1; i >= 0; i--) {
+      final Path path = root.resolve(CONTROL.toBundleName(key.baseName, candidates.get(i)) + ".properties").normalize();
+      chain.add(path);
+      watch(path.getParent());
+
+      final Optional<Map<String, String>> messages = files.computeIfAbsent(path, ReloadableBundleSupplier::parse);
+      if (messages.isPresent()) {
+        bundle = new Bundle(messages.get(), bundle);
+      }
+    }
+    chains.put(key, chain);
+    return bundle == null ? MISSING : bundle;
+  }
+
+  private static Optional<Map<String, String>> parse(Path path) {
+    if (!Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+    try (InputStream in = Files.newInputStream(path)) {
+      final PropertyResourceBundle properties = new PropertyResourceBundle(in); // UTF-8, falling back to ISO-8859-1
+      final Map<String, String> messages = new HashMap<>();
+      for (String key : properties.keySet()) {
+        messages.put(key, properties.getString(key));
+      }
+      return Optional.of(Map.copyOf(messages));
+    } catch (IOException | RuntimeException ex) {
+      log.warn("Cannot load messages from {}", path, ex);
+      return Optional.empty();
+    }
+  }
+
+  private void watch(Path directory) {
+    if (directory == null || closed || !watchedDirectories.add(directory)) {
+      return;
+    }
+    try {
+      directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+    } catch (NoSuchFileException ex) {
+      watchedDirectories.remove(directory);
+      missingDirectories.add(directory); // may get created later on, see watchCreatedDirectories()
+      watch(directory.getParent());
+    } catch (IOException | ClosedWatchServiceException ex) {
+      watchedDirectories.remove(directory);
+      log.warn("Cannot watch {} for changes", directory, ex);
+    }
+  }
+
+  private void watch() {
+    while (!closed) {
+      try {
+        WatchKey watchKey = watchService.take();
+        TimeUnit.MILLISECONDS.sleep(DEBOUNCE_MILLIS_DEF);
+
+        final Set<Path> changed = new HashSet<>();
+        for (; watchKey != null; watchKey = watchService.poll()) {
+          final Path directory = (Path) watchKey.watchable();
+          for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.context() instanceof Path name) {
+              changed.add(directory.resolve(name).normalize());
+            } else if (event.kind() == OVERFLOW) {
+              changed.addAll(files.keySet()); // events got lost: reload everything
+            }
+          }
+          if (!watchKey.reset()) {
+            watchedDirectories.remove(directory);
+          }
+        }
+        changed.addAll(watchCreatedDirectories());
+        reload(changed);
+      } catch (InterruptedException | ClosedWatchServiceException ex) {
+        return;
+      } catch (RuntimeException ex) {
+        log.warn("Reloading messages failed", ex);
+      }
+    }
+  }
+
+  /**
+   * Starts watching the {@link #missingDirectories missing directories} that have been created meanwhile.
+   *
+   * @return the files (bundles have been built from) in the newly watched directories, which might have been created
+   *   before the watching started
+   */
+  private Set<Path> watchCreatedDirectories() {
+    final Set<Path> created = new HashSet<>();
+    for (Path directory : missingDirectories) {
+      if (Files.isDirectory(directory) && missingDirectories.remove(directory)) {
+        watch(directory);
+        for (Path path : files.keySet()) {
+          if (directory.equals(path.getParent())) {
+            created.add(path);
+          }
+        }
+      }
+    }
+    return created;
+  }
+
+  /**
+   * Runs on the watcher thread only.
+   */
+  private void reload(Set<Path> changed) {
+    changed.retainAll(files.keySet()); // not a file any bundle has been built from
+    if (changed.isEmpty()) {
+      return;
+    }
+
+    for (Path path : changed) {
+      files.put(path, parse(path));
+      log.info("Reloaded messages from {}", path);
+    }
+    generation.incrementAndGet(); // after updating the files and before looking at the chains, see build()
+    chains.forEach((key, chain) -> {
+      if (!Collections.disjoint(chain, changed)) {
+        bundles.put(key, build(key)); // replaces the previous bundle in one go
+      }
+    });
+
+    for (WeakReference<Runnable> reference : listeners) {
+      final Runnable listener = reference.get();
+      if (listener == null) {
+        listeners.remove(reference); // its owner has been garbage collected
+        continue;
+      }
+      try {
+        listener.run();
+      } catch (RuntimeException ex) {
+        log.warn("Message reload listener {} failed", listener, ex);
+      }
+    }
+  }
+
+  /**
+   * @param listener notified (on the watcher thread) after bundles have been reloaded; only <em>weakly</em> referenced,
+   *                 i.e., notified for as long as the caller keeps a strong reference to it (e.g., in a field of the
+   *                 object it updates), not kept from being garbage collected by this supplier
+   */
+  public ReloadableBundleSupplier addListener(@NotNull Runnable listener) {
+    listeners.add(new WeakReference<>(listener));
+    return this;
+  }
+
+  public ReloadableBundleSupplier removeListener(Runnable listener) {
+    listeners.removeIf(reference -> {
+      final Runnable registered = reference.get();
+      return registered == null || registered == listener;
+    });
+    return this;
+  }
+
+  /**
+   * Stops watching for changes; the bundles already loaded remain available.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    watcher.interrupt();
+    try {
+      watchService.close();
+    } catch (IOException ex) {
+      log.warn("Cannot close the watch service", ex);
+    }
+  }
+
+  private record BundleKey(String baseName, Locale locale) {}
+
+  /**
+   * Immutable bundle backed by the messages of one file and (via {@link #parent}) those of the more generic ones.
+   */
+  private static final class Bundle extends ResourceBundle {
+
+    private final Map<String, String> messages;
+
+    Bundle(Map<String, String> messages, ResourceBundle parent) {
+      this.messages = messages;
+      setParent(parent);
+    }
+
+    @Override
+    protected Object handleGetObject(@NotNull String key) {
+      return messages.get(key);
+    }
+
+    @Override
+    protected Set<String> handleKeySet() {
+      return messages.keySet();
+    }
+
+    @NotNull
+    @Override
+    public Enumeration<String> getKeys() {
+      final Set<String> keys = new HashSet<>(messages.keySet());
+      if (parent != null) {
+        keys.addAll(Collections.list(parent.getKeys()));
+      }
+      return Collections.enumeration(keys);
+    }
+  }
+}
@@ -1,19 +1,27 @@
 package eu.objectivum.foundation.i18n;
 
 import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
 import static java.lang.System.getProperty;
 import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 import static java.util.Collections.addAll;
 import static java.util.ResourceBundle.getBundle;
-import static org.apache.commons.lang3.ObjectUtils.getFirstNonNull;
 import static org.apache.commons.lang3.StringUtils.appendIfMissing;
 
 /**
@@ -39,6 +47,7 @@ import static org.apache.commons.lang3.StringUtils.appendIfMissing;
  * @see <a href="https://stackoverflow.com/a/7355094/272939">Answer to <em>Is there a way to refer to the current type
  *   with a type variable?</em></a>
  */
+@Slf4j
 public class SimpleI18n<SELF extends SimpleI18n<SELF>> implements I18n {
 
   public static final String L10N_BASEDIR_KEY = "l10n.basedir";
@@ -53,63 +62,220 @@ public class SimpleI18n<SELF extends SimpleI18n<SELF>> implements I18n {
 
   protected BiFunction<String, Locale, MessageFormat> messageFormatSupplier = MessageFormat::new;
 
+  protected MessageFormatCache messageFormatCache = MessageFormatCache.DEFAULT;
+
+  /**
+   * If non-{@code null}, messages are compiled to (and formatted by) {@link MessageTemplate templates} instead of
+   * {@link MessageFormat message formats}.
+   */
+  protected MessageCache<MessageTemplate> messageTemplateCache;
+
+  /**
+   * If non-{@code null}, {@link #message(String, Locale) messages} are looked up in a flat index instead of walking the
+   * bundles on every call.
+   */
+  protected MessageIndex messageIndex;
+
+  /**
+   * Per-locale messages of the {@link MessageKey message keys}, indexed by {@link MessageKey#slot() slot}; a table
+   * gets rebuilt when keys registered after it was built are translated.
+   */
+  protected final Map<Locale, String[]> messageSlots = new ConcurrentHashMap<>();
+
+  /**
+   * Incremented whenever the {@link #messageSlots} get {@link #clearMessageIndex() cleared}.
+   */
+  private final AtomicLong messageSlotsGeneration = new AtomicLong();
+
   protected BiFunction<String, Locale, ResourceBundle> resourceBundleSupplier =
     (baseName, locale) -> locale == null ? getBundle(baseName) : getBundle(baseName, locale);
 
+  /**
+   * Strongly referenced from here only, as {@link ReloadableBundleSupplier} holds its listeners weakly: the supplier
+   * does not keep this instance from being garbage collected.
+   */
+  private final Runnable reloadListener = this::clearMessageIndex;
+
+  private volatile boolean frozen;
+
   protected DateTimeFormatter dateTimeFormatter = RFC_1123_DATE_TIME;
 
   protected ZoneId zoneId = ZoneId.systemDefault();
 
+  /**
+   * If non-{@code null}, the formatters derived for {@link #l(Instant) localizing} instants (and the last formatted
+   * second) are cached.
+   */
+  protected InstantFormatCache instantFormatCache = InstantFormatCache.DEFAULT;
+
   public SimpleI18n(String... bundleBaseNames) {
     setBundlePrefix(getProperty(L10N_BASEDIR_KEY, L10N_BASEDIR_DEF));
     addBundleBaseNames(bundleBaseNames);
   }
 
+  /**
+   * Makes {@code this} instance immutable (its caches aside), so that, once (safely) published, it can be shared by
+   * all threads, e.g., as the configuration behind per-request {@link #view(Locale, ZoneId, DateTimeFormatter)
+   * views}; setters throw an {@link UnsupportedOperationException} from now on.
+   */
+  public SELF freeze() {
+    frozen = true;
+    return self();
+  }
+
+  public boolean isFrozen() {return frozen;}
+
+  private void checkNotFrozen() {
+    if (frozen) {
+      throw new UnsupportedOperationException("Shared (frozen) I18n instances cannot be modified");
+    }
+  }
+
+  /**
+   * @return a lightweight view translating and localizing through {@code this} instance but for {@code locale}
+   */
+  @NotNull
+  public I18nView view(Locale locale) {
+    return new I18nView(this, locale, null, null);
+  }
+
+  /**
+   * @param locale            if {@code null}, {@code this} instance's {@link #getLocale() locale} is used
+   * @param zoneId            if {@code null}, {@code this} instance's {@link #getZoneId() time-zone} is used
+   * @param dateTimeFormatter if {@code null}, {@code this} instance's {@link #getDateTimeFormatter() formatter} is used
+   * @return a lightweight view translating and localizing through {@code this} (preferably {@link #freeze() frozen})
+   *   instance but with the given settings, e.g., those of the current user or request
+   */
+  @NotNull
+  public I18nView view(Locale locale, ZoneId zoneId, DateTimeFormatter dateTimeFormatter) {
+    return new I18nView(this, locale, zoneId, dateTimeFormatter);
+  }
+
   public SELF addBundleBaseNames(String... bundleBaseNames) {
+    checkNotFrozen();
     if (bundleBaseNames != null && bundleBaseNames.length > 0) {
       addAll(this.bundleBaseNames, bundleBaseNames);
+      clearMessageIndex();
     }
     return self();
   }
 
   public SELF setBundleBaseNames(Collection<String> bundleBaseNames) {
+    checkNotFrozen();
     this.bundleBaseNames.clear();
     if (bundleBaseNames != null && !bundleBaseNames.isEmpty()) {
       this.bundleBaseNames.addAll(bundleBaseNames);
     }
+    clearMessageIndex();
     return self();
   }
 
   public SELF setBundlePrefix(String bundlePrefix) {
+    checkNotFrozen();
     this.bundlePrefix = appendIfMissing(bundlePrefix == null ? null : bundlePrefix.trim(), "/");
+    clearMessageIndex();
     return self();
   }
 
   public SELF setMessageFormatSupplier(BiFunction<String, Locale, MessageFormat> messageFormatSupplier) {
+    checkNotFrozen();
     this.messageFormatSupplier = messageFormatSupplier;
+    if (messageFormatCache == MessageFormatCache.DEFAULT) {
+      messageFormatCache = new MessageFormatCache(); // the shared formats are created by the default supplier
+    } else if (messageFormatCache != null) {
+      messageFormatCache.clear(); // cached formats might have been created by the previous supplier
+    }
+    return self();
+  }
+
+  /**
+   * @param messageFormatCache if {@code null}, message formats are created anew on every {@link #t(String, Object...)
+   *                           translation} that has arguments; {@link MessageFormatCache#DEFAULT shared} by default
+   */
+  public SELF setMessageFormatCache(MessageFormatCache messageFormatCache) {
+    checkNotFrozen();
+    this.messageFormatCache = messageFormatCache;
+    return self();
+  }
+
+  /**
+   * @param messageTemplateCache if non-{@code null}, messages with arguments are {@link MessageTemplate#compile(String,
+   *                             Locale) compiled to templates} (and cached) instead of being handled by the {@link
+   *                             #setMessageFormatSupplier(BiFunction) message format supplier}
+   */
+  public SELF setMessageTemplateCache(MessageCache<MessageTemplate> messageTemplateCache) {
+    checkNotFrozen();
+    this.messageTemplateCache = messageTemplateCache;
     return self();
   }
 
+  /**
+   * @param resourceBundleSupplier if a {@link ReloadableBundleSupplier}, the {@link #setIndexed(boolean) message index}
+   *                               gets cleared whenever it reloads bundles; the supplier only references this instance
+   *                               weakly, so sharing it among short-lived (e.g., per-request) instances does not leak
+   */
   public SELF setResourceBundleSupplier(BiFunction<String, Locale, ResourceBundle> resourceBundleSupplier) {
+    checkNotFrozen();
+    if (this.resourceBundleSupplier instanceof ReloadableBundleSupplier reloadable) {
+      reloadable.removeListener(reloadListener);
+    }
     this.resourceBundleSupplier = resourceBundleSupplier;
+    if (resourceBundleSupplier instanceof ReloadableBundleSupplier reloadable) {
+      reloadable.addListener(reloadListener);
+    }
+    clearMessageIndex();
+    return self();
+  }
+
+  /**
+   * In <em>indexed</em> mode, all the configured bundles are merged (once per locale) into a flat {@link MessageIndex
+   * message index} so that a lookup, be it a hit or a miss, becomes a single probe. Bundles are expected not to change
+   * while indexed; {@link #clearMessageIndex() clear the index} if they do.
+   */
+  public SELF setIndexed(boolean indexed) {
+    checkNotFrozen();
+    this.messageIndex = indexed ? new MessageIndex() : null;
+    return self();
+  }
+
+  public boolean isIndexed() {return messageIndex != null;}
+
+  /**
+   * Drops the indexed messages, including those of the {@link MessageKey message keys}, e.g., after bundles changed.
+   */
+  public SELF clearMessageIndex() {
+    if (messageIndex != null) {
+      messageIndex.clear();
+    }
+    messageSlotsGeneration.incrementAndGet(); // before clearing, see publishSlots()
+    messageSlots.clear();
     return self();
   }
 
   public SELF setLocale(Locale locale) {
+    checkNotFrozen();
     this.locale = locale == null ? Locale.getDefault() : locale;
     return self();
   }
 
   public SELF setDateTimeFormatter(DateTimeFormatter dateTimeFormatter) {
+    checkNotFrozen();
     this.dateTimeFormatter = dateTimeFormatter;
     return self();
   }
 
   public SELF setZoneId(ZoneId zoneId) {
+    checkNotFrozen();
     this.zoneId = zoneId;
     return self();
   }
 
+  public SELF setInstantFormatCache(InstantFormatCache instantFormatCache) {
+    checkNotFrozen();
+    this.instantFormatCache = instantFormatCache;
+    return self();
+  }
+
   @Override
   public Locale getLocale() {return locale;}
 
@@ -119,65 +285,439 @@ public class SimpleI18n<SELF extends SimpleI18n<SELF>> implements I18n {
   @Override
   public ZoneId getZoneId() {return zoneId;}
 
+  public MessageFormatCache getMessageFormatCache() {return messageFormatCache;}
+
+  public MessageCache<MessageTemplate> getMessageTemplateCache() {return messageTemplateCache;}
+
+  /**
+   * Loads, in parallel, the bundles for all the configured base names and {@code locales} (and, through the {@link
+   * #setResourceBundleSupplier(BiFunction) resource bundle supplier}, their fallback chains) and, in {@link
+   * #setIndexed(boolean) indexed} mode, indexes their messages, so that the first translations in each locale, e.g.,
+   * right after a deployment, do not pay for locating and parsing them.
+   *
+   * @return how long each bundle took to load, in the order of {@code locales} and of the base names
+   */
+  @NotNull
+  public List<BundleLoad> preload(Collection<Locale> locales) {
+    final BiFunction<String, Locale, ResourceBundle> supplier = resourceBundleSupplier;
+    final List<String> baseNames = qualifiedBundleBaseNames();
+    final List<Locale> distinctLocales = locales == null ? List.of() :
+                                         locales.stream().filter(Objects::nonNull).distinct().toList();
+    if (supplier == null || baseNames.isEmpty() || distinctLocales.isEmpty()) {
+      return List.of();
+    }
+
+    final long start = System.nanoTime();
+    final int loadCount = baseNames.size() * distinctLocales.size();
+    final ExecutorService executor =
+      Executors.newFixedThreadPool(Math.min(loadCount, Runtime.getRuntime().availableProcessors()), runnable -> {
+        final Thread thread = new Thread(runnable, "l10n-preload");
+        thread.setDaemon(true);
+        return thread;
+      });
+    try {
+      final List<CompletableFuture<BundleLoad>> loads = new ArrayList<>(loadCount);
+      for (Locale locale : distinctLocales) {
+        for (String baseName : baseNames) {
+          loads.add(CompletableFuture.supplyAsync(() -> load(supplier, baseName, locale), executor));
+        }
+      }
+      final List<BundleLoad> bundleLoads = loads.stream().map(CompletableFuture::join).toList();
+
+      final MessageIndex messageIndex = this.messageIndex;
+      if (messageIndex != null) {
+        CompletableFuture.allOf(distinctLocales.stream().map(locale -> CompletableFuture.runAsync(
+          () -> messageIndex.index(locale, baseNames, supplier), executor)).toArray(CompletableFuture[]::new)).join();
+      }
+
+      if (log.isDebugEnabled()) {
+        bundleLoads.forEach(load -> log.debug("Preloaded {}", load));
+      }
+      log.info("Preloaded {} bundle(s) for {} locale(s) in {} ms", loadCount, distinctLocales.size(),
+               (System.nanoTime() - start) / 1_000_000);
+      return bundleLoads;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static BundleLoad load(BiFunction<String, Locale, ResourceBundle> supplier, String baseName, Locale locale) {
+    final long start = System.nanoTime();
+    boolean found;
+    try {
+      found = supplier.apply(baseName, locale) != null;
+    } catch (MissingResourceException ex) {
+      found = false;
+    } catch (RuntimeException ex) {
+      log.warn("Cannot preload bundle {} for locale {}", baseName, locale, ex);
+      found = false;
+    }
+    return new BundleLoad(baseName, locale, Duration.ofNanos(System.nanoTime() - start), found);
+  }
+
+  /**
+   * @param found whether the bundle (or one of its fallbacks) exists
+   */
+  public record BundleLoad(String baseName, Locale locale, Duration duration, boolean found) {}
+
   @NotNull
   @Override
   public String t(String key, Object... args) {
+    return translate(effectiveLocale(), key, args);
+  }
+
+  /**
+   * Same as {@link #t(String, Object...)}, for {@code locale} rather than the current one; also used by {@link
+   * I18nView views}.
+   */
+  @NotNull
+  protected String translate(@NotNull Locale locale, String key, Object... args) {
     if (key == null) {
       return "";
     }
 
-    final Locale locale = getFirstNonNull(this::getLocale, this::getDefaultLocale, Locale::getDefault);
+    final TranslationEvent event = new TranslationEvent(); // a no-op unless recording
+    event.begin();
 
-    final String message = message(key, locale);
-    if (args == null || args.length == 0 || messageFormatSupplier == null) {
-      return message;
+    final String translation = format(key, locale, message(key, locale), args);
+
+    commit(event, key, locale, args);
+    return translation;
+  }
+
+  private static void commit(TranslationEvent event, String key, Locale locale, Object[] args) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.key = key;
+      event.locale = String.valueOf(locale);
+      event.arguments = args == null ? 0 : args.length;
+      event.commit();
     }
+  }
 
-    final MessageFormat format = messageFormatSupplier.apply(message, locale);
-    return format == null ? message : format.format(args);
+  /**
+   * Same as {@link #t(String, Object...)} but, once the messages of all the registered keys have been resolved for the
+   * current locale, looks the message up by {@link MessageKey#slot() slot}.
+   */
+  @NotNull
+  public String t(MessageKey key, Object... args) {
+    return translate(effectiveLocale(), key, args);
   }
 
   @NotNull
-  protected String message(@NotNull String key, Locale locale) {
-    if (resourceBundleSupplier == null) {
-      return key;
+  protected String translate(@NotNull Locale locale, MessageKey key, Object... args) {
+    if (key == null) {
+      return "";
     }
 
-    for (String baseName : bundleBaseNames) {
-      if (baseName == null) {
+    final TranslationEvent event = new TranslationEvent(); // a no-op unless recording
+    event.begin();
+
+    final String[] messages = messageSlots.get(locale);
+    final int slot = key.slot();
+    final String message = messages != null && slot < messages.length ? messages[slot] : resolveSlots(locale)[slot];
+    final String translation = format(key.key(), locale, message, args);
+
+    commit(event, key.key(), locale, args);
+    return translation;
+  }
+
+  /**
+   * @return the messages of all the keys registered so far, indexed by slot (unresolved keys mapped to themselves)
+   */
+  @NotNull
+  protected String[] resolveSlots(@NotNull Locale locale) {
+    final long generation = messageSlotsGeneration.get();
+    final List<MessageKey> keys = MessageKey.registered();
+    final String[] messages = new String[keys.size()];
+    for (int i = 0; i < messages.length; i++) {
+      messages[i] = message(keys.get(i).key(), locale);
+    }
+    publishSlots(locale, messages, generation);
+    return messages;
+  }
+
+  /**
+   * Publishes the messages resolved for {@code locale} unless the {@link #clearMessageIndex() index has been cleared}
+   * since {@code generation}, as they might have been resolved from stale bundles; a concurrently resolved table can
+   * only be as large or smaller, replacing it is harmless.
+   */
+  private void publishSlots(Locale locale, String[] messages, long generation) {
+    messageSlots.put(locale, messages);
+    if (messageSlotsGeneration.get() != generation) {
+      messageSlots.remove(locale, messages); // cleared meanwhile, maybe before the put
+    }
+  }
+
+  /**
+   * Resolves, for each of {@code locales}, the messages of all the {@link MessageKey message keys} registered so far
+   * (i.e., declared by the classes loaded so far) and reports (and logs) the keys that none of the bundles defines, so
+   * that missing translations show up at startup rather than while rendering.
+   *
+   * @return the unresolved keys by locale; locales that resolve all the keys are left out
+   */
+  @NotNull
+  public Map<Locale, List<MessageKey>> unresolvedMessageKeys(Collection<Locale> locales) {
+    if (locales == null || locales.isEmpty()) {
+      return Map.of();
+    }
+
+    final long generation = messageSlotsGeneration.get();
+    final List<MessageKey> keys = MessageKey.registered();
+    final Map<Locale, List<MessageKey>> unresolved = new LinkedHashMap<>();
+    for (Locale locale : locales) {
+      if (locale == null) {
         continue;
       }
 
-      if (bundlePrefix != null) {
-        baseName = bundlePrefix + baseName;
+      final String[] messages = new String[keys.size()];
+      final List<MessageKey> unresolvedKeys = new ArrayList<>();
+      for (MessageKey key : keys) {
+        final String message = lookUp(key.key(), locale);
+        if (message == null) {
+          unresolvedKeys.add(key);
+        }
+        messages[key.slot()] = message == null ? key.key() : message;
+      }
+      publishSlots(locale, messages, generation);
+
+      if (!unresolvedKeys.isEmpty()) {
+        log.warn("No messages found for locale {} and keys {}", locale, unresolvedKeys);
+        unresolved.put(locale, unresolvedKeys);
       }
+    }
+    return unresolved;
+  }
+
+  private String format(String key, Locale locale, String message, Object... args) {
+    if (args == null || args.length == 0) {
+      return message;
+    }
+
+    if (messageTemplateCache != null) {
+      return messageTemplateCache.get(key, locale, message, MessageTemplate::compile).format(args);
+    }
+
+    if (messageFormatSupplier == null) {
+      return message;
+    }
+
+    if (messageFormatCache != null) {
+      return messageFormatCache.format(key, locale, message, args, messageFormatSupplier);
+    }
+
+    final MessageFormat format = messageFormatSupplier.apply(message, locale);
+    return format == null ? message : format.format(args);
+  }
+
+  @NotNull
+  @Override
+  public <A extends Appendable> A t(@NotNull A out, String key, Object... args) {
+    try {
+      translate(out, effectiveLocale(), key, args);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return out;
+  }
+
+  @NotNull
+  @Override
+  public StringBuilder t(@NotNull StringBuilder out, String key, Object... args) {
+    try {
+      translate(out, effectiveLocale(), key, args);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex); // not thrown by StringBuilder
+    }
+    return out;
+  }
+
+  protected void translate(@NotNull Appendable out, @NotNull Locale locale, String key, Object... args)
+    throws IOException {
+    if (key == null) {
+      return;
+    }
+
+    if (messageTemplateCache == null || args == null || args.length == 0) {
+      out.append(translate(locale, key, args)); // records its own event
+      return;
+    }
+
+    final TranslationEvent event = new TranslationEvent(); // a no-op unless recording
+    event.begin();
+
+    messageTemplateCache.get(key, locale, message(key, locale), MessageTemplate::compile).formatTo(out, args);
+
+    commit(event, key, locale, args);
+  }
 
-      try {
-        final ResourceBundle resourceBundle = resourceBundleSupplier.apply(baseName, locale);
-        if (resourceBundle != null) {
-          return resourceBundle.getString(key);
+  @NotNull
+  protected String message(@NotNull String key, Locale locale) {
+    final String message = lookUp(key, locale);
+    return message == null ? key : message;
+  }
+
+  /**
+   * @return the message for {@code key} and {@code locale} or {@code null} if none of the bundles defines it
+   */
+  protected String lookUp(@NotNull String key, Locale locale) {
+    final MessageLookupEvent event = new MessageLookupEvent(); // a no-op unless recording
+    event.begin();
+
+    String message = null;
+    int bundleIndex = -1;
+    if (resourceBundleSupplier != null) {
+      if (messageIndex != null && locale != null) {
+        Map<String, String> messages = messageIndex.messages(locale);
+        if (messages == null) {
+          messages = messageIndex.index(locale, qualifiedBundleBaseNames(), resourceBundleSupplier);
+        }
+        message = messages.get(key);
+      } else {
+        int index = -1;
+        for (String baseName : bundleBaseNames) {
+          index++;
+          if (baseName == null) {
+            continue;
+          }
+
+          if (bundlePrefix != null) {
+            baseName = bundlePrefix + baseName;
+          }
+
+          try {
+            final ResourceBundle resourceBundle = resourceBundleSupplier.apply(baseName, locale);
+            if (resourceBundle != null) {
+              message = resourceBundle.getString(key);
+              bundleIndex = index;
+              break;
+            }
+          } catch (MissingResourceException ex) {
+            // continue to the next bundle (base name)
+          }
         }
-      } catch (MissingResourceException ex) {
-        // continue to the next bundle (base name)
       }
     }
 
-    return key;
+    event.end();
+    if (event.shouldCommit()) {
+      event.key = key;
+      event.locale = String.valueOf(locale);
+      event.bundleIndex = bundleIndex;
+      event.miss = message == null;
+      event.commit();
+    }
+    return message;
+  }
+
+  /**
+   * @return the configured bundle base names, in order, {@link #setBundlePrefix(String) prefixed} if needed
+   */
+  @NotNull
+  protected List<String> qualifiedBundleBaseNames() {
+    final List<String> baseNames = new ArrayList<>(bundleBaseNames.size());
+    for (String baseName : bundleBaseNames) {
+      if (baseName != null) {
+        baseNames.add(bundlePrefix == null ? baseName : bundlePrefix + baseName);
+      }
+    }
+    return baseNames;
   }
 
   @NotNull
   @Override
   public String l(Instant instant) {
+    return localize(instant, effectiveDateTimeFormatter(), effectiveLocale(), effectiveZoneId());
+  }
+
+  /**
+   * Same as {@link #l(Instant)}, with the given settings rather than the current ones; also used by {@link I18nView
+   * views}.
+   */
+  @NotNull
+  protected String localize(Instant instant, @NotNull DateTimeFormatter dtf, @NotNull Locale locale,
+                            @NotNull ZoneId zoneId) {
     if (instant == null) {
       return "";
     }
 
-    final DateTimeFormatter dtf =
-      getFirstNonNull(this::getDateTimeFormatter, this::getDefaultDateTimeFormatter, () -> RFC_1123_DATE_TIME);
-    final Locale locale = getFirstNonNull(this::getLocale, this::getDefaultLocale, Locale::getDefault);
-    final ZoneId zoneId = getFirstNonNull(this::getZoneId, this::getDefaultZoneId, ZoneId::systemDefault);
+    if (instantFormatCache == null) {
+      return dtf.withLocale(locale).format(instant.atZone(zoneId));
+    }
+    return instantFormatCache.format(instant, dtf, locale, zoneId);
+  }
 
-    return dtf.withLocale(locale).format(instant.atZone(zoneId));
+  @NotNull
+  @Override
+  public String[] l(Instant[] instants) {
+    if (instants == null) {
+      return new String[0];
+    }
+
+    final String[] localized = new String[instants.length];
+    final InstantFormatCache.CachedFormat format = instants.length == 0 ? null : cachedInstantFormat();
+    for (int i = 0; i < instants.length; i++) {
+      localized[i] = instants[i] == null ? "" : format.format(instants[i]);
+    }
+    return localized;
+  }
+
+  @NotNull
+  @Override
+  public List<String> l(List<Instant> instants) {
+    if (instants == null) {
+      return new ArrayList<>(0);
+    }
+
+    final List<String> localized = new ArrayList<>(instants.size());
+    final InstantFormatCache.CachedFormat format = instants.isEmpty() ? null : cachedInstantFormat();
+    for (Instant instant : instants) {
+      localized.add(instant == null ? "" : format.format(instant));
+    }
+    return localized;
+  }
+
+  @NotNull
+  protected InstantFormatCache.CachedFormat cachedInstantFormat() {
+    return cachedInstantFormat(effectiveDateTimeFormatter(), effectiveLocale(), effectiveZoneId());
+  }
+
+  @NotNull
+  protected InstantFormatCache.CachedFormat cachedInstantFormat(@NotNull DateTimeFormatter dtf, @NotNull Locale locale,
+                                                               @NotNull ZoneId zoneId) {
+    final InstantFormatCache cache = instantFormatCache == null ? new InstantFormatCache(1) : instantFormatCache;
+    return cache.formatter(dtf, locale, zoneId);
+  }
+
+  /**
+   * @return the {@link #getLocale() current}, {@link #getDefaultLocale() default} or JVM's default locale, whichever
+   *   is set first (like {@code getFirstNonNull(...)} but without allocating suppliers on every call)
+   */
+  @NotNull
+  protected Locale effectiveLocale() {
+    Locale locale = getLocale();
+    if (locale == null) {
+      locale = getDefaultLocale();
+    }
+    return locale == null ? Locale.getDefault() : locale;
+  }
+
+  @NotNull
+  protected DateTimeFormatter effectiveDateTimeFormatter() {
+    DateTimeFormatter dateTimeFormatter = getDateTimeFormatter();
+    if (dateTimeFormatter == null) {
+      dateTimeFormatter = getDefaultDateTimeFormatter();
+    }
+    return dateTimeFormatter == null ? RFC_1123_DATE_TIME : dateTimeFormatter;
+  }
+
+  @NotNull
+  protected ZoneId effectiveZoneId() {
+    ZoneId zoneId = getZoneId();
+    if (zoneId == null) {
+      zoneId = getDefaultZoneId();
+    }
+    return zoneId == null ? ZoneId.systemDefault() : zoneId;
   }
 
   /**
@@ -0,0 +1,29 @@
+package eu.objectivum.foundation.i18n;
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event describing a {@link SimpleI18n#t(String, Object...) translation} (message lookup and
+ * formatting); only slow ones are recorded by default.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@Name("eu.objectivum.foundation.Translation")
+@Label("Translation")
+@Category({"Objectivum Foundation", "I18n"})
+@Description("A message looked up and formatted by SimpleI18n.t()")
+@Threshold("1 ms")
+@StackTrace(false)
+final class TranslationEvent extends Event {
+
+  @Label("Key")
+  String key;
+
+  @Label("Locale")
+  String locale;
+
+  @Label("Arguments")
+  @Description("Number of formatting arguments")
+  int arguments;
+}
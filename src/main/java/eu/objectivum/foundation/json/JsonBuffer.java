@@ -0,0 +1,220 @@
+package eu.objectivum.foundation.json;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Growable, reusable byte buffer to which JSON gets written directly as UTF-8, escaped like Jackson does by default;
+ * meant to be kept (e.g., per thread) and {@link #reset() reset} between uses, so that writing does not allocate.
+ * <p>
+ * Recurring fragments (field names, constant values) are best encoded once, with {@link #ascii(String)} or {@link
+ * #quote(String)}, and {@link #append(byte[]) appended} as they are.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+public final class JsonBuffer {
+
+  public static final int CAPACITY_DEF = 1024;
+
+  private static final byte[] NULL = ascii("null");
+
+  private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+  private static final byte[] MIN_LONG = ascii(Long.toString(Long.MIN_VALUE));
+
+  private byte[] bytes;
+
+  private int size;
+
+  public JsonBuffer() {
+    this(CAPACITY_DEF);
+  }
+
+  public JsonBuffer(int capacity) {
+    bytes = new byte[Math.max(16, capacity)];
+  }
+
+  /**
+   * @return the bytes of {@code string}, as they are (neither quoted nor escaped)
+   * @throws IllegalArgumentException if {@code string} is not pure ASCII
+   */
+  @NotNull
+  public static byte[] ascii(@NotNull String string) {
+    for (int i = 0, n = string.length(); i < n; i++) {
+      if (string.charAt(i) >= 0x80) {
+        throw new IllegalArgumentException("Not an ASCII string: " + string);
+      }
+    }
+    return string.getBytes(US_ASCII);
+  }
+
+  /**
+   * @return {@code string} as a quoted, escaped JSON string (or {@code null})
+   */
+  @NotNull
+  public static byte[] quote(String string) {
+    return new JsonBuffer(string == null ? 16 : string.length() + 2).appendString(string).toByteArray();
+  }
+
+  public JsonBuffer reset() {
+    size = 0;
+    return this;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int capacity() {
+    return bytes.length;
+  }
+
+  private void ensureCapacity(int extra) {
+    if (size + extra > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+    }
+  }
+
+  public JsonBuffer append(byte b) {
+    ensureCapacity(1);
+    bytes[size++] = b;
+    return this;
+  }
+
+  public JsonBuffer append(@NotNull byte[] fragment) {
+    ensureCapacity(fragment.length);
+    System.arraycopy(fragment, 0, bytes, size, fragment.length);
+    size += fragment.length;
+    return this;
+  }
+
+  public JsonBuffer appendNull() {
+    return append(NULL);
+  }
+
+  public JsonBuffer appendLong(long value) {
+    if (value == Long.MIN_VALUE) {
+      return append(MIN_LONG);
+    }
+    ensureCapacity(20);
+    if (value < 0) {
+      bytes[size++] = '-';
+      value = -value;
+    }
+    int digits = 1;
+    for (long rest = value / 10; rest > 0; rest /= 10) {
+      digits++;
+    }
+    final int end = size + digits;
+    for (int i = end - 1; i >= size; i--) {
+      bytes[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    size = end;
+    return this;
+  }
+
+  /**
+   * Appends the last {@code width} decimal digits of {@code value} (which must not be negative), zero-padded.
+   */
+  public JsonBuffer appendDigits(long value, int width) {
+    ensureCapacity(width);
+    for (int i = size + width - 1; i >= size; i--) {
+      bytes[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    size += width;
+    return this;
+  }
+
+  /**
+   * Quotes, escapes and UTF-8 encodes {@code value} (or appends {@code null}).
+   */
+  public JsonBuffer appendString(String value) {
+    if (value == null) {
+      return appendNull();
+    }
+    return append((byte) '"').appendEscaped(value).append((byte) '"');
+  }
+
+  /**
+   * Escapes and UTF-8 encodes {@code value}, without quoting it; meant for strings written in several parts.
+   */
+  public JsonBuffer appendEscaped(@NotNull String value) {
+    final int length = value.length();
+    ensureCapacity(length * 6); // worst case: every char escaped as a 6-byte unicode sequence
+
+    final byte[] bytes = this.bytes;
+    int size = this.size;
+    for (int i = 0; i < length; i++) {
+      final char ch = value.charAt(i);
+      if (ch < 0x80) {
+        if (ch >= 0x20 && ch != '"' && ch != '\\') {
+          bytes[size++] = (byte) ch;
+          continue;
+        }
+        bytes[size++] = '\\';
+        switch (ch) {
+        case '"', '\\' -> bytes[size++] = (byte) ch;
+        case '\b' -> bytes[size++] = 'b';
+        case '\t' -> bytes[size++] = 't';
+        case '\f' -> bytes[size++] = 'f';
+        case '\n' -> bytes[size++] = 'n';
+        case '\r' -> bytes[size++] = 'r';
+        default -> {
+          bytes[size++] = 'u';
+          bytes[size++] = '0';
+          bytes[size++] = '0';
+          bytes[size++] = HEX[ch >> 4];
+          bytes[size++] = HEX[ch & 0xF];
+        }
+        }
+      } else if (ch < 0x800) {
+        bytes[size++] = (byte) (0xC0 | (ch >> 6));
+        bytes[size++] = (byte) (0x80 | (ch & 0x3F));
+      } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+        final int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+        bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+        bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+      } else if (Character.isSurrogate(ch)) { // unpaired: not encodable as UTF-8, escaped like Jackson does
+        bytes[size++] = '\\';
+        bytes[size++] = 'u';
+        bytes[size++] = HEX[ch >> 12];
+        bytes[size++] = HEX[(ch >> 8) & 0xF];
+        bytes[size++] = HEX[(ch >> 4) & 0xF];
+        bytes[size++] = HEX[ch & 0xF];
+      } else {
+        bytes[size++] = (byte) (0xE0 | (ch >> 12));
+        bytes[size++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+        bytes[size++] = (byte) (0x80 | (ch & 0x3F));
+      }
+    }
+    this.size = size;
+    return this;
+  }
+
+  public void writeTo(@NotNull OutputStream out) throws IOException {
+    out.write(bytes, 0, size);
+  }
+
+  /**
+   * @throws java.nio.BufferOverflowException if {@code target} does not have enough room left
+   */
+  public void writeTo(@NotNull ByteBuffer target) {
+    target.put(bytes, 0, size);
+  }
+
+  @NotNull
+  public byte[] toByteArray() {
+    return Arrays.copyOf(bytes, size);
+  }
+}
@@ -0,0 +1,447 @@
+package eu.objectivum.foundation.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import ch.qos.logback.core.recovery.ResilientFileOutputStream;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.TriggeringPolicy;
+import ch.qos.logback.core.util.FileSize;
+import eu.objectivum.foundation.concurrent.RingBuffer;
+import eu.objectivum.foundation.exception.ApplicationException;
+import eu.objectivum.foundation.json.JsonBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link RollingFileAppender} that never writes on the logging thread: events are {@link
+ * ILoggingEvent#prepareForDeferredProcessing() prepared} and queued into a bounded, lock-free {@link RingBuffer ring
+ * buffer} which a single writer thread drains, encoding the events in batches into a reusable direct {@link
+ * ByteBuffer} flushed to the file's channel in large writes (when full or when the queue runs dry); events encoded by a
+ * {@link JsonLinesEncoder} are copied straight from the encoder's buffer.
+ * <p>
+ * When the queue is full, the {@link #setOverflow(String) overflow policy} of the event's level decides whether the
+ * logging thread waits for room ({@code BLOCK}, the default for {@code WARN} and {@code ERROR}) or the event is dropped
+ * and counted ({@code DROP}, the default for the other levels). Caller data (the costly {@code %file}, {@code %line},
+ * etc. conversions) is only extracted, on the logging thread, if {@link #setIncludeCallerData(boolean) requested}.
+ * <p>
+ * Rolling policies are configured (and behave) as for the regular {@link RollingFileAppender}, e.g.:
+ * <pre>{@code
+ * <appender name="LOGOUT" class="eu.objectivum.foundation.logging.AsyncBatchingFileAppender">
+ *   <encoder><pattern>%d %-5level [%thread] %logger{1} %msg%n</pattern></encoder>
+ *   <file>app.log</file>
+ *   <queueSize>8192</queueSize>
+ *   <overflow>INFO=DROP, WARN=BLOCK</overflow>
+ *   <rollingPolicy class="ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy">...</rollingPolicy>
+ * </appender>
+ * }</pre>
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ * @see Log#config(String)
+ */
+public class AsyncBatchingFileAppender extends RollingFileAppender<ILoggingEvent> {
+
+  /**
+   * What to do with an event logged while the queue is full.
+   */
+  public enum Overflow {
+    /** Wait (spinning, then parking) for room; the logging thread is slowed down, nothing is lost. */
+    BLOCK,
+    /** Drop (and count) the event. */
+    DROP
+  }
+
+  public static final int QUEUE_SIZE_DEF = 8192;
+
+  public static final int BATCH_SIZE_DEF = 512;
+
+  public static final FileSize WRITE_BUFFER_SIZE_DEF = new FileSize(256 * FileSize.KB_COEFFICIENT);
+
+  public static final long STOP_TIMEOUT_MILLIS_DEF = 10_000;
+
+  private static final long PARK_NANOS = 1_000_000L;
+
+  private static final Level[] LEVELS = {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR};
+
+  private final Overflow[] overflows = {Overflow.DROP, Overflow.DROP, Overflow.DROP, Overflow.BLOCK, Overflow.BLOCK};
+
+  private final LongAdder[] dropped = new LongAdder[LEVELS.length];
+
+  /**
+   * Number of {@link #append(ILoggingEvent) append()} calls past their {@link #stopping} check and not done queueing.
+   */
+  private final AtomicInteger appending = new AtomicInteger();
+
+  private int queueSize = QUEUE_SIZE_DEF;
+
+  private int batchSize = BATCH_SIZE_DEF;
+
+  private FileSize writeBufferSize = WRITE_BUFFER_SIZE_DEF;
+
+  private boolean includeCallerData;
+
+  private RingBuffer<ILoggingEvent> queue;
+
+  private ByteBuffer writeBuffer;
+
+  private File activeFile;
+
+  private Thread writer;
+
+  private volatile boolean writerParked;
+
+  private volatile boolean stopping;
+
+  /**
+   * Set when {@link #stop()} gives up waiting for the writer: the writer is to stop writing as soon as it notices.
+   */
+  private volatile boolean abandoned;
+
+  public AsyncBatchingFileAppender() {
+    for (int i = 0; i < dropped.length; i++) {
+      dropped[i] = new LongAdder();
+    }
+  }
+
+  @Override
+  public void start() {
+    if (isStarted()) {
+      return;
+    }
+    if (isPrudent()) {
+      addError("Prudent mode is not supported by " + getClass().getSimpleName() + " [" + getName() + "]");
+      return;
+    }
+    if (queueSize < 1 || batchSize < 1 || writeBufferSize.getSize() < 1 || writeBufferSize.getSize() > 1 << 30) {
+      addError("Invalid queue, batch or write buffer size for appender [" + getName() + "]");
+      return;
+    }
+
+    queue = new RingBuffer<>(queueSize);
+    writeBuffer = ByteBuffer.allocateDirect((int) writeBufferSize.getSize());
+    stopping = false;
+    abandoned = false;
+
+    super.start();
+    if (!isStarted()) {
+      return;
+    }
+    activeFile = new File(getFile());
+
+    writer = new Thread(this::drain, "logback-writer-" + getName());
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @Override
+  public void stop() {
+    if (!isStarted()) {
+      return;
+    }
+    stopping = true;
+    LockSupport.unpark(writer);
+    if (Thread.currentThread() != writer) {
+      try {
+        writer.join(STOP_TIMEOUT_MILLIS_DEF);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      if (writer.isAlive()) {
+        // the output stream gets closed below: keep the writer from writing (and failing) any further
+        abandoned = true;
+        LockSupport.unpark(writer);
+        addWarn("Timed out waiting for appender [" + getName() + "] to write its queued events; dropping " +
+                dropQueued() + " of them");
+      }
+    }
+
+    final long droppedCount = getDroppedCount();
+    if (droppedCount > 0) {
+      addWarn("Appender [" + getName() + "] dropped " + droppedCount + " event(s) while its queue was full");
+    }
+    super.stop();
+  }
+
+  /**
+   * Runs on the logging thread: only prepares and queues {@code event}.
+   */
+  @Override
+  protected void append(ILoggingEvent event) {
+    if (!isStarted() || stopping) {
+      return;
+    }
+
+    event.prepareForDeferredProcessing();
+    if (includeCallerData) {
+      event.getCallerData();
+    }
+    if (event.getThrowableProxy() instanceof ThrowableProxy proxy &&
+        proxy.getThrowable() instanceof ApplicationException exception) {
+      exception.resolveContext(Thread.currentThread()); // the thread name can only be looked up on the creating thread
+    }
+
+    appending.incrementAndGet(); // keeps the writer from exiting before the event is queued (see drain())
+    try {
+      if (stopping) {
+        return;
+      }
+      if (!queue.offer(event)) {
+        final int level = levelIndex(event.getLevel());
+        if (overflows[level] == Overflow.DROP) {
+          dropped[level].increment();
+          return;
+        }
+        while (!queue.offer(event)) {
+          if (stopping) {
+            dropped[level].increment();
+            return;
+          }
+          LockSupport.unpark(writer);
+          LockSupport.parkNanos(this, PARK_NANOS / 10);
+        }
+      }
+    } finally {
+      appending.decrementAndGet();
+    }
+
+    if (writerParked) {
+      LockSupport.unpark(writer);
+    }
+  }
+
+  private void drain() {
+    final ILoggingEvent[] batch = new ILoggingEvent[batchSize];
+    while (!abandoned) { // what is still queued then gets dropped by stop()
+      int size = 0;
+      ILoggingEvent event;
+      while (size < batchSize && (event = queue.poll()) != null) {
+        batch[size++] = event;
+      }
+
+      if (size == 0) {
+        flush(); // the queue ran dry: do not keep anything back
+        if (stopping && appending.get() == 0 && queue.isEmpty()) {
+          return; // any later append() sees stopping, any earlier one has already queued its event
+        }
+        writerParked = true;
+        if (queue.isEmpty() && !stopping) {
+          LockSupport.park(this); // append() and stop() unpark once they see writerParked (or stopping)
+        }
+        writerParked = false;
+        continue;
+      }
+
+      for (int i = 0; i < size; i++) {
+        if (!abandoned) {
+          write(batch[i]);
+        } else {
+          dropped[levelIndex(batch[i].getLevel())].increment();
+        }
+        batch[i] = null;
+      }
+    }
+  }
+
+  /**
+   * Drops (and counts) the events still queued.
+   *
+   * @return the number of dropped events
+   */
+  private int dropQueued() {
+    int count = 0;
+    for (ILoggingEvent event; (event = queue.poll()) != null; count++) {
+      dropped[levelIndex(event.getLevel())].increment();
+    }
+    return count;
+  }
+
+  /**
+   * Runs on the writer thread only.
+   */
+  private void write(ILoggingEvent event) {
+    try {
+      final TriggeringPolicy<ILoggingEvent> triggeringPolicy = getTriggeringPolicy();
+      synchronized (triggeringPolicy) {
+        if (triggeringPolicy.isTriggeringEvent(activeFile, event)) {
+          flush();
+          rollover();
+          activeFile = new File(getFile());
+        }
+      }
+
+      if (encoder instanceof JsonLinesEncoder jsonLinesEncoder) { // no intermediate array
+        final JsonBuffer json = jsonLinesEncoder.encodeToBuffer(event);
+        if (json.size() > writeBuffer.remaining()) {
+          flush();
+        }
+        if (json.size() > writeBuffer.remaining()) {
+          writeLarge(json.toByteArray());
+        } else {
+          json.writeTo(writeBuffer);
+        }
+        return;
+      }
+
+      final byte[] bytes = encoder.encode(event);
+      if (bytes == null || bytes.length == 0) {
+        return;
+      }
+      if (bytes.length > writeBuffer.remaining()) {
+        flush();
+      }
+      if (bytes.length > writeBuffer.remaining()) {
+        writeLarge(bytes);
+      } else {
+        writeBuffer.put(bytes);
+      }
+    } catch (Throwable throwable) {
+      if (!abandoned) { // otherwise the stream has been closed under the writer, on purpose
+        addError("Failed to write event to appender [" + getName() + "]", throwable);
+      }
+    }
+  }
+
+  /**
+   * Writes {@code bytes}, larger than the whole write buffer, as they are.
+   */
+  private void writeLarge(byte[] bytes) throws IOException {
+    lock.lock();
+    try {
+      writeFully(ByteBuffer.wrap(bytes));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Runs on the writer thread only; the {@link #lock} keeps the output stream from being swapped during a rollover.
+   */
+  private void flush() {
+    if (writeBuffer.position() == 0) {
+      return;
+    }
+    writeBuffer.flip();
+    lock.lock();
+    try {
+      writeFully(writeBuffer);
+    } catch (IOException ex) {
+      if (!abandoned) {
+        addError("Failed to flush appender [" + getName() + "]", ex);
+      }
+    } finally {
+      lock.unlock();
+      writeBuffer.clear();
+    }
+  }
+
+  private void writeFully(ByteBuffer bytes) throws IOException {
+    final OutputStream outputStream = getOutputStream();
+    if (outputStream instanceof ResilientFileOutputStream resilientOutputStream) {
+      outputStream.flush(); // whatever the encoder may have written directly (e.g., headers)
+      final FileChannel channel = resilientOutputStream.getChannel();
+      while (bytes.hasRemaining()) {
+        channel.write(bytes);
+      }
+    } else if (outputStream != null) {
+      final byte[] array = new byte[bytes.remaining()];
+      bytes.get(array);
+      outputStream.write(array);
+      outputStream.flush();
+    }
+  }
+
+  private static int levelIndex(Level level) {
+    final int index = Arrays.asList(LEVELS).indexOf(level);
+    return index < 0 ? LEVELS.length - 1 : index;
+  }
+
+  /**
+   * @param overflow comma-separated {@code LEVEL=POLICY} pairs, e.g., {@code DEBUG=DROP, INFO=BLOCK}; the levels not
+   *                 mentioned keep their policies
+   */
+  public void setOverflow(String overflow) {
+    if (overflow == null) {
+      return;
+    }
+    for (String pair : overflow.split(",")) {
+      final String[] levelAndPolicy = pair.split("=");
+      if (levelAndPolicy.length != 2) {
+        addError("Invalid overflow policy [" + pair.trim() + "], expecting LEVEL=POLICY");
+        continue;
+      }
+      try {
+        final Level level = Level.toLevel(levelAndPolicy[0].trim(), null);
+        if (level == null || Arrays.asList(LEVELS).indexOf(level) < 0) {
+          throw new IllegalArgumentException("Unknown level " + levelAndPolicy[0].trim());
+        }
+        overflows[levelIndex(level)] = Overflow.valueOf(levelAndPolicy[1].trim().toUpperCase());
+      } catch (IllegalArgumentException ex) {
+        addError("Invalid overflow policy [" + pair.trim() + "]", ex);
+      }
+    }
+  }
+
+  public Overflow getOverflow(Level level) {
+    return overflows[levelIndex(level)];
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  /**
+   * @param queueSize rounded up to the next power of two
+   */
+  public void setQueueSize(int queueSize) {
+    this.queueSize = queueSize;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public FileSize getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  public void setWriteBufferSize(FileSize writeBufferSize) {
+    this.writeBufferSize = writeBufferSize == null ? WRITE_BUFFER_SIZE_DEF : writeBufferSize;
+  }
+
+  public boolean isIncludeCallerData() {
+    return includeCallerData;
+  }
+
+  public void setIncludeCallerData(boolean includeCallerData) {
+    this.includeCallerData = includeCallerData;
+  }
+
+  public int getQueueDepth() {
+    return queue == null ? 0 : queue.size();
+  }
+
+  public long getDroppedCount() {
+    long total = 0;
+    for (LongAdder count : dropped) {
+      total += count.sum();
+    }
+    return total;
+  }
+
+  public long getDroppedCount(Level level) {
+    return dropped[levelIndex(level)].sum();
+  }
+}
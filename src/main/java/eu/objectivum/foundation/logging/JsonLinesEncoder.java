@@ -0,0 +1,273 @@
+package eu.objectivum.foundation.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import ch.qos.logback.core.encoder.EncoderBase;
+import eu.objectivum.foundation.exception.ApplicationException;
+import eu.objectivum.foundation.exception.Severity;
+import eu.objectivum.foundation.json.JsonBuffer;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import static eu.objectivum.foundation.json.JsonBuffer.ascii;
+import static eu.objectivum.foundation.json.JsonBuffer.quote;
+
+/**
+ * Logback encoder writing each event as one line of JSON (<a href="https://jsonlines.org/">JSON Lines</a>), e.g.:
+ * <pre>{@code
+ * {"timestamp":"2026-10-16T08:30:00.123Z","level":"ERROR","thread":"main","logger":"app.Main","message":"Failed",
+ *  "mdc":{"requestId":"42"},"throwable":"eu.objectivum.foundation.exception.NotFoundException: ...\n\tat ...",
+ *  "severity":"Error","threadName":"worker-1","threadId":17}
+ * }</pre>
+ * (without the line break); {@code mdc} and {@code throwable} only appear when not empty, {@code severity}, {@code
+ * threadName}, {@code threadId}, {@code virtualThread} and {@code traceId} only when the event carries an {@link
+ * ApplicationException} that has captured them.
+ * <p>
+ * Events are written directly into a per-thread, reusable {@link JsonBuffer buffer}, with the timestamp prefix cached
+ * per second (only the milliseconds get written per event) and the levels and logger names pre-encoded, so that {@link
+ * #encodeToBuffer(ILoggingEvent) encoding} does not allocate once the steady state is reached. Logback's {@link
+ * #encode(ILoggingEvent)} API returns a copy of that buffer; appenders aware of this encoder (like the {@link
+ * AsyncBatchingFileAppender}) write the buffer as it is.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+public class JsonLinesEncoder extends EncoderBase<ILoggingEvent> {
+
+  private static final byte[] TIMESTAMP = ascii("{\"timestamp\":\"");
+
+  private static final byte[] LEVEL = ascii("Z\",\"level\":");
+
+  private static final byte[] THREAD = ascii(",\"thread\":");
+
+  private static final byte[] MESSAGE = ascii(",\"message\":");
+
+  private static final byte[] MDC = ascii(",\"mdc\":{");
+
+  private static final byte[] THROWABLE = ascii(",\"throwable\":\"");
+
+  private static final byte[] SEVERITY = ascii(",\"severity\":");
+
+  private static final byte[] THREAD_NAME = ascii(",\"threadName\":");
+
+  private static final byte[] THREAD_ID = ascii(",\"threadId\":");
+
+  private static final byte[] VIRTUAL_THREAD = ascii(",\"virtualThread\":true");
+
+  private static final byte[] TRACE_ID = ascii(",\"traceId\":");
+
+  private static final byte[] LINE_END = ascii("}\n");
+
+  private static final byte[] CAUSED_BY = ascii("\\nCaused by: ");
+
+  private static final byte[] SUPPRESSED = ascii("\\n\\tSuppressed: ");
+
+  private static final byte[] FRAME = ascii("\\n\\t");
+
+  private static final byte[] COMMON_FRAMES = ascii("\\n\\t... ");
+
+  private static final byte[] COMMON_FRAMES_OMITTED = ascii(" common frames omitted");
+
+  private static final DateTimeFormatter SECOND_FORMATTER =
+    DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.").withZone(ZoneOffset.UTC);
+
+  private static final Map<Severity, byte[]> SEVERITIES = new EnumMap<>(Severity.class);
+
+  static {
+    for (Severity severity : Severity.values()) {
+      SEVERITIES.put(severity, quote(severity.toCamelCase()));
+    }
+  }
+
+  private static final byte[][] LEVELS = {
+    quote(Level.TRACE.toString()), quote(Level.DEBUG.toString()), quote(Level.INFO.toString()),
+    quote(Level.WARN.toString()), quote(Level.ERROR.toString())};
+
+  private static final int MAX_LOGGER_NAMES = 4096;
+
+  private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Pre-encoded {@code ,"logger":"..."} fragments; simply cleared if it grows beyond {@link #MAX_LOGGER_NAMES} entries.
+   */
+  private final Map<String, byte[]> loggerNames = new ConcurrentHashMap<>();
+
+  private final ThreadLocal<State> states = ThreadLocal.withInitial(State::new);
+
+  @Override
+  public byte[] headerBytes() {
+    return null;
+  }
+
+  /**
+   * Copies the {@link #encodeToBuffer(ILoggingEvent) encoded} event into a new array, as required by Logback's API.
+   */
+  @Override
+  public byte[] encode(ILoggingEvent event) {
+    return encodeToBuffer(event).toByteArray();
+  }
+
+  public void encode(@NotNull ILoggingEvent event, @NotNull OutputStream out) throws IOException {
+    encodeToBuffer(event).writeTo(out);
+  }
+
+  /**
+   * @return a per-thread buffer holding the encoded {@code event} (terminated by a line feed), only valid until the
+   *   next event gets encoded on the same thread
+   */
+  @NotNull
+  public JsonBuffer encodeToBuffer(@NotNull ILoggingEvent event) {
+    final State state = states.get();
+    if (state.buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+      state.buffer = new JsonBuffer(); // do not hold on to the memory needed by some huge event
+    }
+    final JsonBuffer buffer = state.buffer.reset();
+
+    final long timestamp = event.getTimeStamp();
+    final long second = Math.floorDiv(timestamp, 1000L);
+    if (second != state.second) {
+      state.secondPrefix = ascii(SECOND_FORMATTER.format(Instant.ofEpochSecond(second)));
+      state.second = second;
+    }
+    buffer.append(TIMESTAMP).append(state.secondPrefix).appendDigits(Math.floorMod(timestamp, 1000L), 3);
+
+    buffer.append(LEVEL).append(level(event.getLevel()));
+    buffer.append(THREAD).appendString(event.getThreadName());
+    buffer.append(loggerName(event.getLoggerName()));
+    buffer.append(MESSAGE).appendString(event.getFormattedMessage());
+
+    final Map<String, String> mdc = event.getMDCPropertyMap();
+    if (mdc != null && !mdc.isEmpty()) {
+      buffer.append(MDC);
+      state.firstEntry = true;
+      mdc.forEach(state);
+      buffer.append((byte) '}');
+    }
+
+    final IThrowableProxy throwableProxy = event.getThrowableProxy();
+    if (throwableProxy != null) {
+      buffer.append(THROWABLE);
+      appendThrowable(buffer, throwableProxy);
+      buffer.append((byte) '"');
+
+      if (throwableProxy instanceof ThrowableProxy proxy &&
+          proxy.getThrowable() instanceof ApplicationException exception) {
+        final Severity severity = exception.getSeverity();
+        if (severity != null) {
+          buffer.append(SEVERITY).append(SEVERITIES.get(severity));
+        }
+        if (exception.getThreadId() != 0) { // captured and not a shared, frozen instance
+          final String threadName = exception.getThreadName();
+          if (threadName != null) {
+            buffer.append(THREAD_NAME).appendString(threadName);
+          }
+          buffer.append(THREAD_ID).appendLong(exception.getThreadId());
+          if (exception.isVirtualThread()) {
+            buffer.append(VIRTUAL_THREAD);
+          }
+        }
+        if (exception.getTraceId() != null) {
+          buffer.append(TRACE_ID).appendString(exception.getTraceId());
+        }
+      }
+    }
+
+    return buffer.append(LINE_END);
+  }
+
+  /**
+   * Writes the throwable like Logback's {@code %ex} conversion does (without packaging data), escaped.
+   */
+  private static void appendThrowable(JsonBuffer buffer, IThrowableProxy throwableProxy) {
+    buffer.appendEscaped(throwableProxy.getClassName());
+    final String message = throwableProxy.getMessage();
+    if (message != null) {
+      buffer.append((byte) ':').append((byte) ' ').appendEscaped(message);
+    }
+
+    final StackTraceElementProxy[] frames = throwableProxy.getStackTraceElementProxyArray();
+    final int commonFrames = throwableProxy.getCommonFrames();
+    for (int i = 0; i < frames.length - commonFrames; i++) {
+      buffer.append(FRAME).appendEscaped(frames[i].getSTEAsString());
+    }
+    if (commonFrames > 0) {
+      buffer.append(COMMON_FRAMES).appendLong(commonFrames).append(COMMON_FRAMES_OMITTED);
+    }
+
+    final IThrowableProxy[] suppressed = throwableProxy.getSuppressed();
+    if (suppressed != null) {
+      for (IThrowableProxy suppressedProxy : suppressed) {
+        buffer.append(SUPPRESSED);
+        appendThrowable(buffer, suppressedProxy);
+      }
+    }
+
+    final IThrowableProxy cause = throwableProxy.getCause();
+    if (cause != null) {
+      buffer.append(CAUSED_BY);
+      appendThrowable(buffer, cause);
+    }
+  }
+
+  private static byte[] level(Level level) {
+    return switch (level.levelInt) {
+      case Level.TRACE_INT -> LEVELS[0];
+      case Level.DEBUG_INT -> LEVELS[1];
+      case Level.INFO_INT -> LEVELS[2];
+      case Level.WARN_INT -> LEVELS[3];
+      default -> LEVELS[4];
+    };
+  }
+
+  private byte[] loggerName(String name) {
+    byte[] encoded = loggerNames.get(name);
+    if (encoded == null) {
+      if (loggerNames.size() >= MAX_LOGGER_NAMES) {
+        loggerNames.clear();
+      }
+      encoded = new JsonBuffer().append(ascii(",\"logger\":")).appendString(name).toByteArray();
+      loggerNames.put(name, encoded);
+    }
+    return encoded;
+  }
+
+  @Override
+  public byte[] footerBytes() {
+    return null;
+  }
+
+  /**
+   * Per-thread encoding state; also writes the MDC entries, so that iterating over them does not allocate.
+   */
+  private static final class State implements BiConsumer<String, String> {
+
+    JsonBuffer buffer = new JsonBuffer();
+
+    long second = Long.MIN_VALUE;
+
+    byte[] secondPrefix;
+
+    boolean firstEntry;
+
+    @Override
+    public void accept(String key, String value) {
+      if (!firstEntry) {
+        buffer.append((byte) ',');
+      }
+      firstEntry = false;
+      buffer.appendString(key).append((byte) ':').appendString(value);
+    }
+  }
+}
@@ -1,10 +1,16 @@
 package eu.objectivum.foundation.logging;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.core.joran.spi.JoranException;
+import ch.qos.logback.core.util.StatusPrinter;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.*;
 import org.slf4j.bridge.SLF4JBridgeHandler;
 
+import java.net.URL;
+
 import static ch.qos.logback.classic.Level.INFO;
 import static ch.qos.logback.classic.Level.toLevel;
 import static java.lang.StackWalker.Option.RETAIN_CLASS_REFERENCE;
@@ -21,14 +27,75 @@ import static org.slf4j.LoggerFactory.getLogger;
 public class Log {
 
   /**
-   * Performs additional logging configuration, like {@link #routeJulToSlf4j() adapting j.u.l to SLF4J}, etc.
+   * System property naming the logging profile to {@link #config(String) configure}, e.g., {@code
+   * -Dlog.profile=}{@value #PROFILE_PRODUCTION}.
+   */
+  public static final String PROFILE_PROPERTY = "log.profile";
+
+  /**
+   * Asynchronous, batched file output without caller data; see {@code logback-production.xml}.
+   */
+  public static final String PROFILE_PRODUCTION = "production";
+
+  /**
+   * Walks the stack only as far as the caller; shared, since {@code StackWalker}s are immutable and thread-safe.
+   */
+  private static final StackWalker WALKER = StackWalker.getInstance(RETAIN_CLASS_REFERENCE);
+
+  /**
+   * Loggers resolved for calling classes; a {@link ClassValue} does not prevent classes from being unloaded.
+   */
+  private static final ClassValue<Logger> LOGGERS = new ClassValue<>() {
+    @Override
+    protected Logger computeValue(Class<?> clazz) {
+      return getLogger(clazz);
+    }
+  };
+
+  /**
+   * Performs additional logging configuration, like {@link #routeJulToSlf4j() adapting j.u.l to SLF4J}, etc., using
+   * the profile named by the {@value #PROFILE_PROPERTY} system property, if any.
    * <p/>
    * Should be invoked early, during the initialization phase of the application.
    */
   public static void config() {
+    config(System.getProperty(PROFILE_PROPERTY));
+  }
+
+  /**
+   * @param profile if not blank, Logback gets reconfigured from the {@code logback-<profile>.xml} class path resource
+   *                (which resets the logger context, turbo filters included)
+   */
+  public static void config(String profile) {
+    if (profile != null && !profile.isBlank()) {
+      configure("logback-" + profile.trim() + ".xml");
+    }
     routeJulToSlf4j();
   }
 
+  private static void configure(String resource) {
+    final ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+    if (!(loggerFactory instanceof LoggerContext loggerContext)) { // not Logback
+      return;
+    }
+
+    final URL configuration = Log.class.getClassLoader().getResource(resource);
+    if (configuration == null) {
+      getLogger(Log.class).warn("Logging configuration {} not found; keeping the current one", resource);
+      return;
+    }
+
+    loggerContext.reset();
+    final JoranConfigurator configurator = new JoranConfigurator();
+    configurator.setContext(loggerContext);
+    try {
+      configurator.doConfigure(configuration);
+    } catch (JoranException ex) {
+      // errors are recorded as statuses, printed below
+    }
+    StatusPrinter.printInCaseOfErrorsOrWarnings(loggerContext);
+  }
+
   /**
    * Route any j.u.l logging request to SLF4J.
    *
@@ -68,15 +135,72 @@ public class Log {
   public static void setLevel(String loggerName, String level) {
     final ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
     if (loggerFactory instanceof LoggerContext) { // Logback
-      ((LoggerContext) loggerFactory)
-        .getLogger(loggerName == null ? ROOT_LOGGER_NAME : loggerName)
-        .setLevel(toLevel(level, INFO));
+      changeLevel(((LoggerContext) loggerFactory).getLogger(loggerName == null ? ROOT_LOGGER_NAME : loggerName),
+                  toLevel(level, INFO));
+    }
+  }
+
+  /**
+   * Makes the given logger inherit its level again (the root logger cannot inherit, so it is left untouched).
+   */
+  public static void resetLevel(String loggerName) {
+    final ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+    if (loggerName != null && !ROOT_LOGGER_NAME.equalsIgnoreCase(loggerName) &&
+        loggerFactory instanceof LoggerContext) { // Logback
+      changeLevel(((LoggerContext) loggerFactory).getLogger(loggerName), null);
     }
   }
 
+  private static void changeLevel(ch.qos.logback.classic.Logger logger, Level level) {
+    final Level oldLevel = logger.getLevel();
+    logger.setLevel(level);
+
+    final LogLevelChangeEvent event = new LogLevelChangeEvent(); // a no-op unless recording
+    if (event.shouldCommit()) {
+      event.logger = logger.getName();
+      event.oldLevel = oldLevel == null ? null : oldLevel.toString();
+      event.newLevel = level == null ? null : level.toString();
+      event.commit();
+    }
+  }
+
+  /**
+   * Meant for inline use, e.g., {@code Log.log().debug(...)}; the calling class still gets determined on every call,
+   * so in hot code prefer keeping the result of {@link #here()} in a {@code static final} field.
+   *
+   * @return a {@link Logger} instance corresponding to the calling class
+   */
   @NotNull
   public static Logger log() {
-    return logFor(null);
+    try {
+      final Class<?> caller = WALKER.getCallerClass(); // cheaper than a full walk, see LogBenchmark
+      return LOGGERS.get(caller == Log.class ? outerCallerClass() : caller);
+    } catch (Throwable throwable) {
+      return getLogger(ROOT_LOGGER_NAME);
+    }
+  }
+
+  /**
+   * @return the first class on the stack other than {@code Log}, when {@link #log()} is called from within {@code Log}
+   */
+  private static Class<?> outerCallerClass() {
+    return WALKER.walk(frames -> frames
+      .map(StackWalker.StackFrame::getDeclaringClass)
+      .filter(clazz -> clazz != Log.class)
+      .findFirst()
+      .orElseThrow());
+  }
+
+  /**
+   * The {@code static final} logger field initializer, e.g., {@code private static final Logger log = Log.here();}:
+   * same as {@link #log()} (though walking a few more frames) but meant to run once per class, sparing both the
+   * repetition of the class name and any later stack walking.
+   *
+   * @return a {@link Logger} instance corresponding to the calling class
+   */
+  @NotNull
+  public static Logger here() {
+    return log();
   }
 
   /**
@@ -88,18 +212,18 @@ public class Log {
     switch (source) {
     case null:
       try {
-        return getLogger(StackWalker.getInstance(RETAIN_CLASS_REFERENCE).getCallerClass());
+        return LOGGERS.get(WALKER.getCallerClass());
       } catch (Throwable throwable) {
         return getLogger(ROOT_LOGGER_NAME);
       }
     case Class<?> clazz:
-      return getLogger(clazz);
+      return LOGGERS.get(clazz);
     case String string:
       return getLogger(string);
     case Logger logger:
       return logger;
     default:
-      return getLogger(source.getClass());
+      return LOGGERS.get(source.getClass());
     }
   }
 }
@@ -0,0 +1,28 @@
+package eu.objectivum.foundation.logging;
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event describing a logger level {@link Log#setLevel(String, String) set} or {@link
+ * Log#resetLevel(String) reset} programmatically.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+@Name("eu.objectivum.foundation.LogLevelChange")
+@Label("Log Level Change")
+@Category({"Objectivum Foundation", "Logging"})
+@Description("A logger level changed through Log")
+final class LogLevelChangeEvent extends Event {
+
+  @Label("Logger")
+  String logger;
+
+  @Label("Old Level")
+  @Description("Explicitly set level before the change; null if inherited")
+  String oldLevel;
+
+  @Label("New Level")
+  @Description("Explicitly set level after the change; null if inherited")
+  String newLevel;
+}
@@ -0,0 +1,365 @@
+package eu.objectivum.foundation.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Keeps the logging throughput within a {@link #getBudget() budget} (events per second) by temporarily raising the
+ * levels of the noisiest loggers, e.g., when a load spike turns {@code DEBUG} output into a CPU hog.
+ * <p>
+ * Installed as a Logback {@link TurboFilter} (which never alters the fate of an event by itself), it counts, per
+ * logger, the events that pass the logger's level. Once per period, if the total rate exceeds the budget, the noisiest
+ * loggers are raised one level at a time (up to a {@link Builder#ceiling(Level) ceiling}) through {@link
+ * Log#setLevel(String, String)}; their original levels are restored only after the rate has stayed below a fraction of
+ * the budget (the <em>hysteresis</em>) for a number of consecutive periods. Every level change is reported to the
+ * {@link #addListener(Consumer) listeners} and counted in the {@link #registerMBean() JMX view}.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+public class LogLevelGovernor extends TurboFilter implements LogLevelGovernorMXBean {
+
+  public static final String OBJECT_NAME_DEF = "eu.objectivum.foundation:type=LogLevelGovernor,name=default";
+
+  /**
+   * A level change decided by the governor; {@code null} levels stand for inherited ones.
+   *
+   * @param throttled {@code true} if the level has been raised, {@code false} if it has been restored
+   */
+  public record LevelChange(String logger, String oldLevel, String newLevel, boolean throttled, Instant instant) {}
+
+  private static final org.slf4j.Logger log = LoggerFactory.getLogger(LogLevelGovernor.class);
+
+  private static final List<Level> LEVELS = List.of(Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR);
+
+  private static final String INHERITED = "";
+
+  private volatile long budget;
+
+  private final Duration period;
+
+  private final double hysteresis;
+
+  private final int cooldownPeriods;
+
+  private final Level ceiling;
+
+  private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+  /** Original levels of the throttled loggers, in throttling order ({@link #INHERITED} if none was set). */
+  private final Map<String, String> originalLevels = Collections.synchronizedMap(new LinkedHashMap<>());
+
+  private final List<Consumer<LevelChange>> listeners = new CopyOnWriteArrayList<>();
+
+  private final LongAdder levelChanges = new LongAdder();
+
+  private volatile double lastRate;
+
+  private int calmPeriods;
+
+  private ScheduledExecutorService scheduler;
+
+  private LogLevelGovernor(Builder builder) {
+    this.budget = builder.budget;
+    this.period = builder.period;
+    this.hysteresis = builder.hysteresis;
+    this.cooldownPeriods = builder.cooldownPeriods;
+    this.ceiling = builder.ceiling;
+    setName("LogLevelGovernor");
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Adds {@code this} governor to Logback's context and starts it; does nothing if Logback is not the SLF4J
+   * implementation in use.
+   */
+  public LogLevelGovernor install() {
+    final ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+    if (loggerFactory instanceof LoggerContext loggerContext) {
+      setContext(loggerContext);
+      loggerContext.addTurboFilter(this);
+      start();
+    }
+    return this;
+  }
+
+  public LogLevelGovernor uninstall() {
+    stop();
+    if (getContext() instanceof LoggerContext loggerContext) {
+      loggerContext.getTurboFilterList().remove(this);
+    }
+    return this;
+  }
+
+  public LogLevelGovernor addListener(@NotNull Consumer<LevelChange> listener) {
+    listeners.add(listener);
+    return this;
+  }
+
+  public LogLevelGovernor registerMBean() throws JMException {
+    final ObjectName name = new ObjectName(OBJECT_NAME_DEF);
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    if (server.isRegistered(name)) {
+      server.unregisterMBean(name);
+    }
+    server.registerMBean(this, name);
+    return this;
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    if (format == null && params == null && t == null) {
+      return FilterReply.NEUTRAL; // an is...Enabled() probe, not an event (a guarded statement would count twice)
+    }
+    if (logger != null && level != null && level.levelInt >= logger.getEffectiveLevel().levelInt) {
+      LongAdder count = counts.get(logger.getName());
+      if (count == null) {
+        count = counts.computeIfAbsent(logger.getName(), name -> new LongAdder());
+      }
+      count.increment();
+    }
+    return FilterReply.NEUTRAL;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (isStarted()) {
+      return;
+    }
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "log-level-governor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleAtFixedRate(this::evaluate, period.toMillis(), period.toMillis(), MILLISECONDS);
+    super.start();
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+    restoreAll();
+    super.stop();
+  }
+
+  /**
+   * Runs once per period, on the governor's own thread.
+   */
+  void evaluate() {
+    try {
+      final Map<String, Double> rates = new HashMap<>();
+      double total = 0;
+      for (Map.Entry<String, LongAdder> entry : counts.entrySet()) {
+        final double rate = entry.getValue().sumThenReset() * 1000.0 / period.toMillis();
+        if (rate > 0) {
+          rates.put(entry.getKey(), rate);
+          total += rate;
+        }
+      }
+      lastRate = total;
+
+      final long budget = this.budget;
+      if (total > budget) {
+        calmPeriods = 0;
+        throttle(rates, total - budget);
+      } else if (total < budget * hysteresis && !originalLevels.isEmpty()) {
+        if (++calmPeriods >= cooldownPeriods) {
+          calmPeriods = 0;
+          restoreAll();
+        }
+      } else {
+        calmPeriods = 0;
+      }
+    } catch (Throwable throwable) {
+      log.warn("Log level governor evaluation failed", throwable);
+    }
+  }
+
+  private void throttle(Map<String, Double> rates, double excess) {
+    final List<Map.Entry<String, Double>> noisiest = new ArrayList<>(rates.entrySet());
+    noisiest.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+
+    final LoggerContext loggerContext = (LoggerContext) getContext();
+    for (Map.Entry<String, Double> entry : noisiest) {
+      if (excess <= 0) {
+        break;
+      }
+
+      final Logger logger = loggerContext.getLogger(entry.getKey());
+      final Level current = logger.getEffectiveLevel();
+      final int index = LEVELS.indexOf(current);
+      if (index < 0 || current.isGreaterOrEqual(ceiling)) {
+        continue; // ALL, OFF or already high enough
+      }
+
+      final Level raised = LEVELS.get(index + 1);
+      final Level explicit = logger.getLevel();
+      originalLevels.putIfAbsent(logger.getName(), explicit == null ? INHERITED : explicit.toString());
+      Log.setLevel(logger.getName(), raised.toString());
+      report(new LevelChange(logger.getName(), explicit == null ? null : explicit.toString(), raised.toString(), true,
+                             Instant.now()));
+
+      excess -= entry.getValue(); // optimistic: most of a logger's events are usually at its lowest enabled level
+    }
+  }
+
+  @Override
+  public void restoreAll() {
+    final List<Map.Entry<String, String>> throttled;
+    synchronized (originalLevels) {
+      throttled = new ArrayList<>(originalLevels.entrySet());
+      originalLevels.clear();
+    }
+    Collections.reverse(throttled); // last throttled, first restored
+
+    for (Map.Entry<String, String> entry : throttled) {
+      final String name = entry.getKey();
+      final String original = INHERITED.equals(entry.getValue()) ? null : entry.getValue();
+      final Level current = getContext() instanceof LoggerContext loggerContext
+        ? loggerContext.getLogger(name).getLevel()
+        : null;
+
+      if (original == null) {
+        Log.resetLevel(name);
+      } else {
+        Log.setLevel(name, original);
+      }
+      report(new LevelChange(name, current == null ? null : current.toString(), original, false, Instant.now()));
+    }
+  }
+
+  private void report(LevelChange change) {
+    levelChanges.increment();
+    log.info("{} logger {}: {} -> {}", change.throttled() ? "Throttled" : "Restored", change.logger(),
+             change.oldLevel() == null ? "(inherited)" : change.oldLevel(),
+             change.newLevel() == null ? "(inherited)" : change.newLevel());
+    for (Consumer<LevelChange> listener : listeners) {
+      try {
+        listener.accept(change);
+      } catch (Throwable throwable) {
+        log.warn("Log level change listener {} failed", listener, throwable);
+      }
+    }
+  }
+
+  @Override
+  public long getBudget() {
+    return budget;
+  }
+
+  @Override
+  public void setBudget(long eventsPerSecond) {
+    this.budget = eventsPerSecond;
+  }
+
+  @Override
+  public double getLastRate() {
+    return lastRate;
+  }
+
+  @Override
+  public Map<String, String> getThrottledLoggers() {
+    final Map<String, String> throttled = new TreeMap<>();
+    if (getContext() instanceof LoggerContext loggerContext) {
+      synchronized (originalLevels) {
+        for (String name : originalLevels.keySet()) {
+          throttled.put(name, loggerContext.getLogger(name).getEffectiveLevel().toString());
+        }
+      }
+    }
+    return throttled;
+  }
+
+  @Override
+  public long getLevelChangeCount() {
+    return levelChanges.sum();
+  }
+
+  public static final class Builder {
+
+    private long budget = 10_000;
+
+    private Duration period = Duration.ofSeconds(1);
+
+    private double hysteresis = 0.5;
+
+    private int cooldownPeriods = 30;
+
+    private Level ceiling = Level.WARN;
+
+    private Builder() {}
+
+    /**
+     * @param eventsPerSecond logging events per second (across all loggers) above which levels get raised
+     */
+    public Builder budget(long eventsPerSecond) {
+      this.budget = eventsPerSecond;
+      return this;
+    }
+
+    public Builder period(@NotNull Duration period) {
+      this.period = period;
+      return this;
+    }
+
+    /**
+     * @param fraction the fraction of the budget the rate has to stay below before levels get restored
+     */
+    public Builder hysteresis(double fraction) {
+      this.hysteresis = fraction;
+      return this;
+    }
+
+    /**
+     * @param periods how many consecutive calm periods to wait for before restoring the levels
+     */
+    public Builder cooldownPeriods(int periods) {
+      this.cooldownPeriods = periods;
+      return this;
+    }
+
+    /**
+     * @param ceiling the governor never raises a logger's level beyond this one
+     */
+    public Builder ceiling(@NotNull Level ceiling) {
+      this.ceiling = ceiling;
+      return this;
+    }
+
+    public LogLevelGovernor build() {
+      if (budget < 1 || period.toMillis() < 1 || hysteresis <= 0 || hysteresis > 1 || cooldownPeriods < 1) {
+        throw new IllegalArgumentException("Invalid log level governor settings");
+      }
+      return new LogLevelGovernor(this);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package eu.objectivum.foundation.logging;
+
+import java.util.Map;
+
+/**
+ * JMX view (and controls) of a {@link LogLevelGovernor}.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+public interface LogLevelGovernorMXBean {
+
+  long getBudget();
+
+  void setBudget(long eventsPerSecond);
+
+  /**
+   * @return the number of logging events per second measured during the last evaluation period
+   */
+  double getLastRate();
+
+  /**
+   * @return the currently throttled loggers and their (raised) levels
+   */
+  Map<String, String> getThrottledLoggers();
+
+  long getLevelChangeCount();
+
+  /**
+   * Restores the original levels of all the throttled loggers right away.
+   */
+  void restoreAll();
+}
@@ -0,0 +1,222 @@
+package eu.objectivum.foundation.logging;
+
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.util.FileSize;
+import ch.qos.logback.core.util.FileUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * {@link RollingFileAppender} writing encoded events straight into memory-mapped segments of the active file, i.e.,
+ * without a system call per write: a new {@link #setSegmentSize(FileSize) segment} is mapped (pre-allocating space in
+ * the file) whenever the current one fills, and the unused tail of the last one is truncated when the file is closed
+ * (on rollover or when the appender stops), so that the output stays plain text.
+ * <p>
+ * Rolling policies are configured (and behave) as for the regular {@link RollingFileAppender}, with one caveat: size
+ * based triggering sees the pre-allocated length of the active file, so files get rolled when their last segment is
+ * mapped; with a segment size that divides the maximum file size, rolled files are thus at most as large as allowed
+ * and at most one segment smaller. E.g., the equivalent of the default {@code logback.xml} file output:
+ * <pre>{@code
+ * <appender name="LOGOUT" class="eu.objectivum.foundation.logging.MappedRollingFileAppender">
+ *   <encoder><pattern>%d %-5level [%thread] %logger{1} %msg%n</pattern></encoder>
+ *   <file>app.log</file>
+ *   <segmentSize>4MB</segmentSize>
+ *   <rollingPolicy class="ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy">
+ *     <fileNamePattern>app-%d{yyyy-MM-dd}.%i.log</fileNamePattern>
+ *     <maxFileSize>100MB</maxFileSize>
+ *     <maxHistory>60</maxHistory>
+ *     <totalSizeCap>20GB</totalSizeCap>
+ *   </rollingPolicy>
+ * </appender>
+ * }</pre>
+ * Should the process crash, the dirty pages still reach the file (they belong to the operating system's page cache),
+ * followed by the zero-filled, unused part of the last segment; when appending to an existing file, writing resumes
+ * right after its last non-zero byte, overwriting that tail. Mapped buffers are only released by the garbage collector,
+ * which, on some platforms (e.g., Windows), keeps rolled files from being renamed for a while.
+ *
+ * @param <E> the type of the logged events
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+public class MappedRollingFileAppender<E> extends RollingFileAppender<E> {
+
+  public static final FileSize SEGMENT_SIZE_DEF = new FileSize(4 * FileSize.MB_COEFFICIENT);
+
+  private FileSize segmentSize = SEGMENT_SIZE_DEF;
+
+  @Override
+  public void start() {
+    if (isPrudent()) {
+      addError("Prudent mode is not supported by " + getClass().getSimpleName() + " [" + getName() + "]");
+      return;
+    }
+    if (segmentSize.getSize() < 1 || segmentSize.getSize() > Integer.MAX_VALUE) {
+      addError("The segment size of appender [" + getName() + "] must be between 1 byte and 2GB");
+      return;
+    }
+    setImmediateFlush(false); // flushing a mapped buffer means forcing it to the storage device
+    super.start();
+  }
+
+  @Override
+  public void openFile(String fileName) throws IOException {
+    lock.lock();
+    try {
+      final File file = new File(fileName);
+      if (!FileUtil.createMissingParentDirectories(file)) {
+        addError("Failed to create parent directories for [" + file.getAbsolutePath() + "]");
+      }
+      setOutputStream(new MappedOutputStream(file.toPath(), isAppend(), (int) segmentSize.getSize()));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public FileSize getSegmentSize() {
+    return segmentSize;
+  }
+
+  public void setSegmentSize(FileSize segmentSize) {
+    this.segmentSize = segmentSize == null ? SEGMENT_SIZE_DEF : segmentSize;
+  }
+
+  /**
+   * Not thread-safe: the appender serializes the writes (and the rollovers) through its {@link #lock}.
+   */
+  static final class MappedOutputStream extends OutputStream {
+
+    private static final int SCAN_CHUNK_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+
+    private final int segmentSize;
+
+    private MappedByteBuffer segment;
+
+    private long segmentStart;
+
+    MappedOutputStream(Path path, boolean append, int segmentSize) throws IOException {
+      this.channel = FileChannel.open(path, CREATE, READ, WRITE);
+      this.segmentSize = segmentSize;
+      try {
+        final long start = append ? dataEnd(channel) : 0;
+        channel.truncate(start);
+        map(start);
+      } catch (IOException | RuntimeException ex) {
+        channel.close();
+        throw ex;
+      }
+    }
+
+    /**
+     * @return the position right after the last non-zero byte in the file, i.e., skipping the unused tail a crash may
+     *   have left behind
+     */
+    static long dataEnd(FileChannel channel) throws IOException {
+      final ByteBuffer chunk = ByteBuffer.allocate(SCAN_CHUNK_SIZE);
+      long end = channel.size();
+      while (end > 0) {
+        final long start = Math.max(0, end - SCAN_CHUNK_SIZE);
+        chunk.clear().limit((int) (end - start));
+        while (chunk.hasRemaining() && channel.read(chunk, start + chunk.position()) >= 0) {}
+        for (int i = chunk.position() - 1; i >= 0; i--) {
+          if (chunk.get(i) != 0) {
+            return start + i + 1;
+          }
+        }
+        end = start;
+      }
+      return 0;
+    }
+
+    private void map(long position) throws IOException {
+      segment = channel.map(READ_WRITE, position, segmentSize);
+      segmentStart = position;
+    }
+
+    long position() {
+      return segmentStart + segment.position();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      ensureOpen();
+      if (!segment.hasRemaining()) {
+        map(segmentStart + segmentSize);
+      }
+      try {
+        segment.put((byte) b);
+      } catch (InternalError err) {
+        throw writeFailed(err);
+      }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      ensureOpen();
+      while (length > 0) {
+        if (!segment.hasRemaining()) {
+          map(segmentStart + segmentSize);
+        }
+        final int count = Math.min(length, segment.remaining());
+        try {
+          segment.put(bytes, offset, count);
+        } catch (InternalError err) {
+          throw writeFailed(err);
+        }
+        offset += count;
+        length -= count;
+      }
+    }
+
+    /**
+     * Segments are mapped over sparse (not yet allocated) regions of the file, so a full disk only shows when writing
+     * into them: the page fault (a {@code SIGBUS}) surfaces as an {@link InternalError}, which the appender would not
+     * handle (and which would thus escape the logging call) unlike an {@link IOException}.
+     */
+    private static IOException writeFailed(InternalError err) {
+      return new IOException("Cannot write to the mapped file (is the disk full?)", err);
+    }
+
+    /**
+     * Does nothing: the written bytes are visible to readers of the file right away and reach the storage device as
+     * the operating system writes dirty pages back.
+     */
+    @Override
+    public void flush() {}
+
+    private void ensureOpen() throws IOException {
+      if (segment == null) {
+        throw new IOException("Stream closed");
+      }
+    }
+
+    /**
+     * Truncates the unused tail of the last segment.
+     */
+    @Override
+    public void close() throws IOException {
+      if (segment == null) {
+        return;
+      }
+      final long end = position();
+      segment = null;
+      try {
+        channel.truncate(end);
+      } finally {
+        channel.close();
+      }
+    }
+  }
+}
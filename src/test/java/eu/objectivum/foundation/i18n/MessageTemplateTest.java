@@ -0,0 +1,116 @@
+package eu.objectivum.foundation.i18n;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link MessageTemplate} formats exactly like {@link MessageFormat} does.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 17, 2026
+ */
+class MessageTemplateTest {
+
+  private static final Locale[] LOCALES = {Locale.ENGLISH, Locale.GERMAN, Locale.FRANCE};
+
+  private static final Date DATE = new Date(1_760_000_000_000L);
+
+  private static final Object[][] PATTERNS = {
+    // the (benchmark) bundle messages
+    {"Hello {0}, you have {1,number,integer} new messages since {2,date,short}.", "Ann", 1234, DATE},
+    {"Hallo {0}, Sie haben {1,number,integer} neue Nachrichten seit {2,date,short}.", "Ann", -7L, DATE},
+    {"The requested {0} could not be found.", "file"},
+    {"Sie dürfen nicht auf {0} zugreifen.", (Object) null},
+    {"{0,choice,0#no files|1#one file|1<{0,number,integer} files}", 0},
+    {"{0,choice,0#no files|1#one file|1<{0,number,integer} files}", 1},
+    {"{0,choice,0#keine Dateien|1#eine Datei|1<{0,number,integer} Dateien}", 12345},
+    {"{0,choice,0#no files|1#one file|1<{0,number,integer} files}", 2.5},
+    // plain arguments
+    {"{0} {1} {2} {3} {4} {5}", Long.MIN_VALUE, Integer.MAX_VALUE, 1.5, new BigDecimal("-1234.5678"),
+     new BigInteger("123456789012345678901234567890"), 'c'},
+    {"{0}", DATE},
+    {"{1} and {0}", "first"},
+    {"{0}{0}{0}", 42},
+    {"no arguments at all"},
+    {"{2}", "missing", "arguments"},
+    // number, date and time styles
+    {"{0,number} {0,number,integer} {0,number,percent} {0,number,currency}", 1234567},
+    {"{0,number} {0,number,integer} {0,number,percent}", -0.125},
+    {"{0,number,#,##0.00} {0,number,000}", 7},
+    {"{0,number,integer}", 2.5},
+    {"{0,number}", (Object) null},
+    {"{0,date} {0,date,short} {0,date,medium} {0,date,long} {0,date,full} {0,date,yyyy-MM-dd}", DATE},
+    {"{0,time} {0,time,short} {0,time,medium} {0,time,long} {0,time,HH:mm}", DATE},
+    // quoting
+    {"It''s {0}", "fine"},
+    {"'{0}' is {0}", "quoted"},
+    {"'{'{0}'}'", "braced"},
+    {"''''", "x"},
+    {"'unterminated {0}", "x"},
+    {"'{0,number}' '''{0}'''", 3},
+    {"{0,number,'#'#}", 5},
+    // choice edge cases
+    {"{0,choice,-1#negative|0#zero|0<positive}", -5},
+    {"{0,choice,0#zero|1#one}", -1},
+    {"{0,choice,0#'{0}'|1#{0} is ''{1}''}", 1, "quoted"},
+    {"{0,choice,0#none|1#some}", (Object) null},
+    {"{0,choice,0#a|1≤b|2#c}", 1},
+    // nested choices: the inner separators are quoted for the outer ChoiceFormat
+    {"{0,choice,0#none|1#{1,choice,0'#'zero'|'1'#'nested {1,number,integer}}}", 1, 2},
+    {"{0,choice,0#none|1#{1,choice,0'#'zero'|'1'#'nested {1,number,integer}}}", 1, 0},
+    {"{0,choice,0#none|1#{1,choice,0'#'zero'|'1'#'nested {1,number,integer}}}", 0, 2},
+  };
+
+  static Stream<Arguments> patterns() {
+    return Stream.of(LOCALES).flatMap(locale -> Stream.of(PATTERNS).map(pattern -> {
+      final Object[] args = new Object[pattern.length - 1];
+      System.arraycopy(pattern, 1, args, 0, args.length);
+      return Arguments.of(pattern[0], locale, args);
+    }));
+  }
+
+  @ParameterizedTest
+  @MethodSource("patterns")
+  void formatMatchesMessageFormat(String pattern, Locale locale, Object[] args) {
+    final String expected = new MessageFormat(pattern, locale).format(args);
+    assertEquals(expected, MessageTemplate.compile(pattern, locale).format(args));
+  }
+
+  @ParameterizedTest
+  @MethodSource("patterns")
+  void formatToMatchesMessageFormat(String pattern, Locale locale, Object[] args) throws IOException {
+    final String expected = new MessageFormat(pattern, locale).format(args);
+    final MessageTemplate template = MessageTemplate.compile(pattern, locale);
+    assertEquals(expected, template.formatTo(new StringWriter(), args).toString());
+    assertEquals("> " + expected, template.formatTo(new StringBuilder("> "), args).toString());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"{", "{0", "{x}", "{0,unknown}", "{0,choice,x#a}", "{0,date,{}"})
+  void invalidPatternsAreRejected(String pattern) {
+    assertThrows(IllegalArgumentException.class, () -> new MessageFormat(pattern, Locale.ENGLISH));
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile(pattern, Locale.ENGLISH));
+  }
+
+  @Test
+  void nullArgumentsFormatLikeNoArguments() {
+    final String pattern = "{0} and {1,number}";
+    assertEquals(new MessageFormat(pattern, Locale.ENGLISH).format(null),
+                 MessageTemplate.compile(pattern, Locale.ENGLISH).format((Object[]) null));
+  }
+}
@@ -0,0 +1,55 @@
+package eu.objectivum.foundation.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link JsonBuffer} writes strings like Jackson does by default, surrogate pairs aside.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 17, 2026
+ */
+class JsonBufferTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "", "plain", "quote \" and backslash \\", "controls \b\t\f\n\r \u0000 \u001F \u007F", "latin éß",
+    "cjk 中文", "lone high \uD83D.", "lone low \uDE00.", "trailing high \uD83D", "reversed \uDE00\uD83D",
+    "line separators \u2028\u2029"})
+  void appendStringMatchesJackson(String value) throws IOException {
+    final byte[] expected = MAPPER.writeValueAsBytes(value);
+    final byte[] actual = new JsonBuffer(4).appendString(value).toByteArray();
+    assertArrayEquals(expected, actual, () -> new String(expected, UTF_8) + " != " + new String(actual, UTF_8));
+  }
+
+  /**
+   * Unlike Jackson (before {@code COMBINE_UNICODE_SURROGATES_IN_UTF8}), surrogate pairs are written as 4-byte UTF-8.
+   */
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "emoji \uD83D\uDE00", "\uD83D\uDE00\uD83D", "\uDE00\uD83D\uDE00", "mixed é\uD83D\uDE00\u0001"})
+  void appendStringRoundTrips(String value) throws IOException {
+    final byte[] actual = new JsonBuffer(4).appendString(value).toByteArray();
+    assertEquals(value, MAPPER.readValue(actual, String.class));
+  }
+
+  @Test
+  void unpairedSurrogatesAreEscaped() {
+    assertEquals("\"a\\uD83Db\\uDE00\"", new String(JsonBuffer.quote("a\uD83Db\uDE00"), UTF_8));
+  }
+
+  @Test
+  void asciiRejectsNonAsciiStrings() {
+    assertArrayEquals(new byte[]{'{', '"'}, JsonBuffer.ascii("{\""));
+    assertThrows(IllegalArgumentException.class, () -> JsonBuffer.ascii("café"));
+  }
+}
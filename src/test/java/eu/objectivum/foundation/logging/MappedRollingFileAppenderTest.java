@@ -0,0 +1,127 @@
+package eu.objectivum.foundation.logging;
+
+import ch.qos.logback.core.ContextBase;
+import ch.qos.logback.core.encoder.EchoEncoder;
+import ch.qos.logback.core.rolling.FixedWindowRollingPolicy;
+import ch.qos.logback.core.rolling.SizeBasedTriggeringPolicy;
+import ch.qos.logback.core.util.FileSize;
+import eu.objectivum.foundation.logging.MappedRollingFileAppender.MappedOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Crash consistency of the {@link MappedRollingFileAppender}: output abandoned without being closed (as on a crash)
+ * is resumed right after its last line, and closed (e.g., rolled) files are truncated to their content.
+ *
+ * @author Octavian Theodor NITA (https://github.com/octavian-nita/)
+ * @version 1.0, Oct 16, 2026
+ */
+class MappedRollingFileAppenderTest {
+
+  private static final int SEGMENT_SIZE = 256;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void appendingResumesAfterTheLastLineOfAnAbandonedFile() throws IOException {
+    final Path file = directory.resolve("app.log");
+    final StringBuilder expected = new StringBuilder();
+
+    // more than one segment, the last one partially filled; never closed, like after a crash
+    final MappedOutputStream abandoned = new MappedOutputStream(file, false, SEGMENT_SIZE);
+    for (int i = 0; i < 20; i++) {
+      final String line = "line " + i + " of the abandoned output\n";
+      abandoned.write(line.getBytes(UTF_8));
+      expected.append(line);
+    }
+    assertTrue(Files.size(file) > expected.length(), "the unused tail of the last segment is pre-allocated");
+
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      assertEquals(expected.length(), MappedOutputStream.dataEnd(channel));
+    }
+
+    final MappedOutputStream reopened = new MappedOutputStream(file, true, SEGMENT_SIZE);
+    assertEquals(expected.length(), reopened.position());
+    final String line = "line written after the restart\n";
+    reopened.write(line.getBytes(UTF_8));
+    expected.append(line);
+    reopened.close();
+
+    final byte[] content = Files.readAllBytes(file);
+    assertNoNulBytes(content);
+    assertEquals(expected.toString(), new String(content, UTF_8));
+  }
+
+  @Test
+  void dataEndOfAnEmptyOrZeroFilledFileIsZero() throws IOException {
+    final Path file = directory.resolve("zeros.log");
+    Files.write(file, new byte[3 * 64 * 1024 + 17]);
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      assertEquals(0, MappedOutputStream.dataEnd(channel));
+    }
+  }
+
+  @Test
+  void rolloverClosesAndTruncatesTheActiveFile() throws IOException {
+    final ContextBase context = new ContextBase();
+    final Path active = directory.resolve("app.log");
+
+    final MappedRollingFileAppender<String> appender = new MappedRollingFileAppender<>();
+    appender.setContext(context);
+    appender.setName("mapped");
+    appender.setFile(active.toString());
+    appender.setSegmentSize(new FileSize(SEGMENT_SIZE));
+    final EchoEncoder<String> encoder = new EchoEncoder<>();
+    encoder.setContext(context);
+    encoder.start();
+    appender.setEncoder(encoder);
+
+    final FixedWindowRollingPolicy rollingPolicy = new FixedWindowRollingPolicy();
+    rollingPolicy.setContext(context);
+    rollingPolicy.setParent(appender);
+    rollingPolicy.setFileNamePattern(directory.resolve("app.%i.log").toString());
+    rollingPolicy.start();
+    appender.setRollingPolicy(rollingPolicy);
+    final SizeBasedTriggeringPolicy<String> triggeringPolicy = new SizeBasedTriggeringPolicy<>();
+    triggeringPolicy.setContext(context);
+    triggeringPolicy.start();
+    appender.setTriggeringPolicy(triggeringPolicy);
+
+    appender.start();
+    assertTrue(appender.isStarted());
+
+    final StringBuilder rolled = new StringBuilder();
+    for (int i = 0; i < 10; i++) {
+      final String event = "event " + i + " before the rollover";
+      appender.doAppend(event);
+      rolled.append(event).append(System.lineSeparator());
+    }
+    appender.rollover();
+    appender.doAppend("event after the rollover");
+    appender.stop();
+
+    final byte[] rolledContent = Files.readAllBytes(directory.resolve("app.1.log"));
+    assertNoNulBytes(rolledContent);
+    assertEquals(rolled.toString(), new String(rolledContent, UTF_8));
+
+    final byte[] activeContent = Files.readAllBytes(active);
+    assertNoNulBytes(activeContent);
+    assertEquals("event after the rollover" + System.lineSeparator(), new String(activeContent, UTF_8));
+  }
+
+  private static void assertNoNulBytes(byte[] content) {
+    for (int i = 0; i < content.length; i++) {
+      assertNotEquals(0, content[i], "NUL byte at " + i);
+    }
+  }
+}